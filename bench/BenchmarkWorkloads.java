@@ -0,0 +1,271 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * Builds the workloads measured by the JMH benchmarks in the bench package.
+ * JMH does not allow benchmarks in the default package, where the game's classes are, so
+ * each workload is set up here and handed over as a java.util.function object that the
+ * benchmark looks up by name once, before it is measured. Every workload is seeded, and
+ * none of them needs a window. The game's properties are read from res/, so benchmarks
+ * must be run from the project directory.
+ */
+public class BenchmarkWorkloads {
+    private static final Properties GAME_PROPS = IOUtils.readPropertiesFile("res/app.properties");
+    private static final Properties MESSAGE_PROPS = IOUtils.readPropertiesFile("res/message_en.properties");
+    private static final long SEED = 20003;
+    private static final int POINTS = 1024;
+
+    /**
+     * One run of every collision pass with the given number of other cars on the road, and
+     * a tenth as many enemy cars.
+     */
+    public static Runnable collisionPasses(int otherCarCount) {
+        GamePlayScreen screen = new GamePlayScreen(GAME_PROPS, MESSAGE_PROPS, new RandomService(SEED));
+        screen.addTraffic(otherCarCount, otherCarCount / 10);
+        return screen::handleCollisions;
+    }
+
+    /**
+     * Collision checks of a car, taxi or human against points scattered around it,
+     * returning the number of collisions.
+     */
+    public static IntSupplier hasCollided(String collidable) {
+        Collidable target;
+        if (collidable.equals("car")) {
+            OtherCar car = new OtherCar(GAME_PROPS, new RandomService(SEED), new EntityStore());
+            car.reset();
+            car.setXPos(480);
+            car.setYPos(384);
+            target = car;
+        } else if (collidable.equals("taxi")) {
+            target = new Taxi(GAME_PROPS, 480, 384);
+        } else {
+            target = new Driver(GAME_PROPS, 480, 384);
+        }
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] xs = new double[POINTS];
+        double[] ys = new double[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            xs[i] = 480 + random.nextDouble(-100, 100);
+            ys[i] = 384 + random.nextDouble(-100, 100);
+        }
+
+        return () -> {
+            int collisions = 0;
+            for (int i = 0; i < POINTS; i++) {
+                if (target.hasCollided(xs[i], ys[i], 10)) {
+                    collisions++;
+                }
+            }
+            return collisions;
+        };
+    }
+
+    /**
+     * One test of a circle against the given number of circles scattered around it, with
+     * either the scalar overlap kernel or the fastest kernel the JVM supports, returning the
+     * number of overlaps.
+     */
+    public static IntSupplier overlaps(String kernel, int circles) {
+        OverlapKernel overlapKernel = kernel.equals("scalar") ? new ScalarOverlapKernel() : OverlapKernel.create();
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] xs = new double[circles];
+        double[] ys = new double[circles];
+        double[] radii = new double[circles];
+        for (int i = 0; i < circles; i++) {
+            xs[i] = 480 + random.nextDouble(-100, 100);
+            ys[i] = 384 + random.nextDouble(-100, 100);
+            radii[i] = 32;
+        }
+        boolean[] hits = new boolean[circles];
+
+        return () -> overlapKernel.findOverlaps(480, 384, 32, xs, ys, radii, circles, hits);
+    }
+
+    /**
+     * Reading a level file with the given number of lines, made by repeating the game's
+     * objects file, returning the number of rows read.
+     */
+    public static IntSupplier readCommaSeparatedFile(int lines) throws IOException {
+        String path = levelFile(lines);
+        return () -> IOUtils.readCommaSeparatedFile(path).length;
+    }
+
+    /**
+     * Reading the same level file as readCommaSeparatedFile through a CsvCursor, parsing each
+     * column the game reads, returning the number of rows read plus the number of passengers
+     * with an umbrella, so that no column goes unread.
+     */
+    public static IntSupplier csvCursor(int lines) throws IOException {
+        String path = levelFile(lines);
+        LevelEntity[] entities = LevelEntity.values();
+        return () -> {
+            int rows = 0;
+            int umbrellas = 0;
+            double positions = 0;
+            try (CsvCursor row = new CsvCursor(path)) {
+                while (row.next()) {
+                    rows++;
+                    positions += row.doubleAt(1) + row.doubleAt(2);
+                    if (row.enumAt(0, entities) == LevelEntity.PASSENGER) {
+                        positions += row.intAt(3) + row.intAt(4) + row.intAt(5);
+                        umbrellas += row.intAt(6);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return rows + umbrellas + (Double.isNaN(positions) ? 1 : 0);
+        };
+    }
+
+    /**
+     * Loading a level of the given number of lines from its CSV files, as the game does when
+     * the level is not compiled: reading the weather, then every row through a CsvLevelStream,
+     * returning the number of rows and weather intervals read.
+     */
+    public static IntSupplier csvLevelLoad(int lines) throws IOException {
+        String path = levelFile(lines);
+        String weatherFile = GAME_PROPS.getProperty("gamePlay.weatherFile");
+        return () -> {
+            int weathers = 0;
+            try (CsvCursor row = new CsvCursor(weatherFile)) {
+                while (row.next()) {
+                    weathers += new Weather(row.stringAt(0), row.intAt(1), row.intAt(2)).getEnd() > 0 ? 1 : 0;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return weathers + readLevel(new CsvLevelStream(path));
+        };
+    }
+
+    /**
+     * Loading the same level as csvLevelLoad from the file it was compiled into, checking its
+     * checksum and reading the weather and every row through a CompiledLevelStream.
+     */
+    public static IntSupplier compiledLevelLoad(int lines) throws IOException {
+        Path compiled = Files.createTempFile("level", ".bin");
+        compiled.toFile().deleteOnExit();
+        CompiledLevel.compile(levelFile(lines), GAME_PROPS.getProperty("gamePlay.weatherFile"), compiled.toString());
+        return () -> {
+            try {
+                CompiledLevel level = new CompiledLevel(compiled.toString());
+                int weathers = 0;
+                for (int i = 0; i < level.getWeatherCount(); i++) {
+                    weathers += level.getWeather(i).getEnd() > 0 ? 1 : 0;
+                }
+                return weathers + readLevel(new CompiledLevelStream(level));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    // read every row of a level and every field the game reads, returning the number of rows
+    private static int readLevel(LevelStream level) {
+        int rows = 0;
+        double positions = 0;
+        while (level.nextWithin(Double.NEGATIVE_INFINITY)) {
+            rows++;
+            positions += level.getX() + level.getY();
+            if (level.getEntity() == LevelEntity.PASSENGER) {
+                positions += level.getPriority() + level.getEndX() + level.getDistanceY() + level.getHasUmbrella();
+            }
+        }
+        level.close();
+        return rows + (Double.isNaN(positions) ? 1 : 0);
+    }
+
+    // write a level file with the given number of lines by repeating the game's objects file, each
+    // repeat placed further up the road than the one before, so the rows stay in order of decreasing Y
+    private static String levelFile(int lines) throws IOException {
+        String[][] level = IOUtils.readCommaSeparatedFile(GAME_PROPS.getProperty("gamePlay.objectsFile"));
+        long height = Long.parseLong(level[0][2]) - Long.parseLong(level[level.length - 1][2]) + 1;
+        Path file = Files.createTempFile("level", ".csv");
+        file.toFile().deleteOnExit();
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file))) {
+            for (int i = 0; i < lines; i++) {
+                String[] row = level[i % level.length].clone();
+                row[2] = String.valueOf(Long.parseLong(row[2]) - (i / level.length) * height);
+                out.println(String.join(",", row));
+            }
+        }
+        return file.toString();
+    }
+
+    /**
+     * Building the end screen leaderboard from the given number of scores, returning the
+     * number of scores kept.
+     */
+    public static IntSupplier leaderboard(int scores) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        String[] lines = new String[scores];
+        double[] values = new double[scores];
+        for (int i = 0; i < scores; i++) {
+            values[i] = random.nextInt(100000) / 100.0;
+            lines[i] = "PLAYER" + i + " - " + String.format("%.2f", values[i]);
+        }
+
+        return () -> {
+            Leaderboard leaderboard = new Leaderboard(5);
+            for (int i = 0; i < scores; i++) {
+                leaderboard.insert(lines[i], values[i]);
+            }
+            return leaderboard.getSize();
+        };
+    }
+
+    /**
+     * Ranking a score in a score store holding the given number of scores, and reading its
+     * top five, returning the rank.
+     */
+    public static IntSupplier scoreStoreRank(int scores) throws IOException {
+        Path records = Files.createTempFile("scores", ".dat");
+        Path index = Files.createTempFile("scores", ".idx");
+        records.toFile().deleteOnExit();
+        index.toFile().deleteOnExit();
+        Files.delete(records);
+        Files.delete(index);
+
+        ScoreStore store = new ScoreStore(records.toString(), index.toString());
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < scores; i++) {
+            store.insert("PLAYER" + i, random.nextInt(100000) / 100.0, i, i);
+        }
+
+        return () -> {
+            int rank = store.getRank(random.nextInt(100000) / 100.0);
+            return rank + store.getTop(5).length;
+        };
+    }
+
+    /**
+     * Updating the fare of an ongoing trip, returning the final fare.
+     */
+    public static DoubleSupplier tripFare() {
+        Passenger passenger = new Passenger(GAME_PROPS, 280, -100, 2, 280, 700, 0);
+        TripDetails tripDetails = new TripDetails(MESSAGE_PROPS, GAME_PROPS, passenger);
+
+        return () -> {
+            tripDetails.update(480, 384, passenger.getFlagX(), passenger.getFlagY());
+            return tripDetails.getFinalExp();
+        };
+    }
+
+    /**
+     * Calculating a passenger's expected fare, returning the fare.
+     */
+    public static DoubleSupplier expectedFare() {
+        Passenger passenger = new Passenger(GAME_PROPS, 280, -100, 2, 280, 700, 0);
+        return () -> passenger.calculateExpected(passenger.getPriority(), passenger.getDistanceY());
+    }
+}
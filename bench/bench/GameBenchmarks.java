@@ -0,0 +1,187 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * JMH benchmarks of the game's hot paths. None of them opens a window, so they can run on
+ * build machines with no display. Build and run them from the project directory with
+ * <pre>
+ * mvn -P bench package
+ * java -jar target/benchmarks.jar
+ * </pre>
+ * The workloads themselves are built by BenchmarkWorkloads, in the default package.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmarks {
+
+    @State(Scope.Benchmark)
+    public static class Traffic {
+        @Param({"10", "100", "1000"})
+        public int cars;
+        private Runnable collisionPasses;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            collisionPasses = (Runnable) workload("collisionPasses", cars);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Collisions {
+        @Param({"car", "taxi", "human"})
+        public String collidable;
+        private IntSupplier hasCollided;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            hasCollided = (IntSupplier) workload("hasCollided", collidable);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Overlaps {
+        @Param({"scalar", "best"})
+        public String kernel;
+        @Param({"16", "1024"})
+        public int circles;
+        private IntSupplier overlaps;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            overlaps = (IntSupplier) workload("overlaps", kernel, circles);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LevelFile {
+        @Param({"1000", "100000"})
+        public int lines;
+        private IntSupplier readCommaSeparatedFile;
+        private IntSupplier csvCursor;
+        private IntSupplier csvLevelLoad;
+        private IntSupplier compiledLevelLoad;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            readCommaSeparatedFile = (IntSupplier) workload("readCommaSeparatedFile", lines);
+            csvCursor = (IntSupplier) workload("csvCursor", lines);
+            csvLevelLoad = (IntSupplier) workload("csvLevelLoad", lines);
+            compiledLevelLoad = (IntSupplier) workload("compiledLevelLoad", lines);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Scores {
+        @Param({"1000", "1000000"})
+        public int scores;
+        private IntSupplier leaderboard;
+        private IntSupplier scoreStoreRank;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            leaderboard = (IntSupplier) workload("leaderboard", scores);
+            scoreStoreRank = (IntSupplier) workload("scoreStoreRank", scores);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Fares {
+        private DoubleSupplier tripFare;
+        private DoubleSupplier expectedFare;
+
+        @Setup
+        public void setup() throws ReflectiveOperationException {
+            tripFare = (DoubleSupplier) workload("tripFare");
+            expectedFare = (DoubleSupplier) workload("expectedFare");
+        }
+    }
+
+    @Benchmark
+    public void collisionPasses(Traffic traffic) {
+        traffic.collisionPasses.run();
+    }
+
+    @Benchmark
+    public int hasCollided(Collisions collisions) {
+        return collisions.hasCollided.getAsInt();
+    }
+
+    // the best kernel is the Vector API one only when the forked JVM has the incubator module
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+    public int overlaps(Overlaps overlaps) {
+        return overlaps.overlaps.getAsInt();
+    }
+
+    @Benchmark
+    public int readCommaSeparatedFile(LevelFile levelFile) {
+        return levelFile.readCommaSeparatedFile.getAsInt();
+    }
+
+    @Benchmark
+    public int csvCursor(LevelFile levelFile) {
+        return levelFile.csvCursor.getAsInt();
+    }
+
+    @Benchmark
+    public int csvLevelLoad(LevelFile levelFile) {
+        return levelFile.csvLevelLoad.getAsInt();
+    }
+
+    @Benchmark
+    public int compiledLevelLoad(LevelFile levelFile) {
+        return levelFile.compiledLevelLoad.getAsInt();
+    }
+
+    @Benchmark
+    public int leaderboard(Scores scores) {
+        return scores.leaderboard.getAsInt();
+    }
+
+    @Benchmark
+    public int scoreStoreRank(Scores scores) {
+        return scores.scoreStoreRank.getAsInt();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double tripFare(Fares fares) {
+        return fares.tripFare.getAsDouble();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double expectedFare(Fares fares) {
+        return fares.expectedFare.getAsDouble();
+    }
+
+    // build a workload by calling the BenchmarkWorkloads method with the given name
+    static Object workload(String name, Object... arguments) throws ReflectiveOperationException {
+        for (Method method : Class.forName("BenchmarkWorkloads").getMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == arguments.length) {
+                return method.invoke(null, arguments);
+            }
+        }
+        throw new NoSuchMethodException("BenchmarkWorkloads." + name);
+    }
+}
@@ -0,0 +1,49 @@
+import bagel.Input;
+import bagel.Keys;
+
+import java.util.Arrays;
+
+/**
+ * Adapts the bagel window input to the InputSource used by the gameplay simulation.
+ * The wrapped input is replaced every frame with the one passed to the game's update.
+ * Frames and simulation ticks do not line up one to one, so key presses are held from the
+ * frame they happen in until the end of the next tick: a press is never seen by two ticks,
+ * and is not lost when a frame runs no tick at all.
+ */
+public class BagelInput implements InputSource {
+    private static final Keys[] KEYS = Keys.values();
+
+    private Input input;
+    private final boolean[] pressed = new boolean[KEYS.length];
+
+    /**
+     * Sets the bagel input for the current frame, holding on to any keys pressed in it.
+     *
+     * @param input the current mouse/keyboard input
+     */
+    public void setInput(Input input) {
+        this.input = input;
+        for (Keys key : KEYS) {
+            if (input.wasPressed(key)) {
+                pressed[key.ordinal()] = true;
+            }
+        }
+    }
+
+    /**
+     * Forgets the key presses seen by the tick that has just run.
+     */
+    public void endTick() {
+        Arrays.fill(pressed, false);
+    }
+
+    @Override
+    public boolean isDown(Keys key) {
+        return input.isDown(key);
+    }
+
+    @Override
+    public boolean wasPressed(Keys key) {
+        return pressed[key.ordinal()];
+    }
+}
@@ -7,18 +7,27 @@ import java.util.Properties;
  * Represents a car in the game that can collide with other objects.
  * The Car class implements the Collidable interface, allowing it to handle
  * collision detection with other cars or game objects.
+ * While a car is on the road its position, health, speed and collision state live in an
+ * EntityStore shared by all cars of its kind, so that they can be moved in one loop. A car
+ * that has left the road keeps the state it was last in.
  */
 public class Car implements Collidable{
+    private EntityStore store;
+    private int handle = -1;
+
+    // the car's state while it is not in the store
     private double XPos;
     private double YPos;
+    private int CAR_SPEED;
+    private double carHealth;
+    private int collisionTimeout = 0;
+    private boolean moveForward;
+
     private int SCREEN_SPEED;
     private int CAR_MAX_SPEED;
     private int CAR_MIN_SPEED;
-    private int CAR_SPEED;
     private double CAR_RADIUS;
     private double CAR_DAMAGE;
-    private double carHealth;
-    private int collisionTimeout = 0;
     private final int SEPARATION_DURATION = 190;
 
     private int ROAD_LANE_1;
@@ -26,7 +35,8 @@ public class Car implements Collidable{
     private int ROAD_LANE_3;
 
     private Car lastCollidedCar;
-    private boolean moveForward;
+    private int trafficIndex;
+    private RandomService random;
 
     /**
      * Generates a random spawn location for the car within the defined road lanes.
@@ -34,9 +44,49 @@ public class Car implements Collidable{
      * and its Y position is randomly selected from a range that starts off-screen
      */
     public void getSpawnLocation() {
-        int[] lanes = {ROAD_LANE_1, ROAD_LANE_2, ROAD_LANE_3};
-        XPos = lanes[MiscUtils.getRandomInt(0, lanes.length)];
-        YPos = MiscUtils.selectAValue(-50, 768);
+        RandomStream spawnPositions = random.getSpawnPositions();
+        int lane = spawnPositions.getRandomInt(0, 3);
+        setXPos(lane == 0 ? ROAD_LANE_1 : lane == 1 ? ROAD_LANE_2 : ROAD_LANE_3);
+        setYPos(spawnPositions.selectAValue(-50, 768));
+        if (handle >= 0) {
+            store.setPreviousPosition(handle, getXPos(), getYPos());
+        }
+    }
+
+    /**
+     * Resets the state shared by all cars so that a pooled car can be spawned again, with
+     * full health, no collision in progress, and a new random spawn location. The car is
+     * added to its store if it is not already in it.
+     *
+     * @param health the health the car spawns with
+     */
+    public void respawn(double health) {
+        if (handle < 0) {
+            handle = store.add();
+            store.setRadius(handle, CAR_RADIUS);
+        }
+        setCarHealth(health);
+        setCollisionTimeout(0);
+        setMoveForward(false);
+        lastCollidedCar = null;
+        getSpawnLocation();
+    }
+
+    /**
+     * Takes the car off the road, removing it from its store. The car keeps the state it was
+     * last in, for anything that still refers to it.
+     */
+    public void despawn() {
+        if (handle >= 0) {
+            XPos = store.getX(handle);
+            YPos = store.getY(handle);
+            CAR_SPEED = store.getSpeed(handle);
+            carHealth = store.getHealth(handle);
+            collisionTimeout = store.getTimeout(handle);
+            moveForward = store.isMovingForward(handle);
+            store.remove(handle);
+            handle = -1;
+        }
     }
 
     /**
@@ -48,34 +98,51 @@ public class Car implements Collidable{
      */
     @Override
     public boolean hasCollided(double XPos, double YPos, double radius) {
-        double distance = Math.sqrt(Math.pow((this.XPos - XPos), 2) + Math.pow((this.YPos - YPos), 2));
-
-        if (distance < CAR_RADIUS + radius) {
-            return true;
-        }
-
-        return false;
+        double dx = getXPos() - XPos;
+        double dy = getYPos() - YPos;
+        double reach = CAR_RADIUS + radius;
+        return dx * dx + dy * dy < reach * reach;
     }
 
     // getters and setters
     public void setCarHealth(double carHealth) {
-        this.carHealth = carHealth;
+        if (handle >= 0) {
+            store.setHealth(handle, carHealth);
+        } else {
+            this.carHealth = carHealth;
+        }
     }
 
     public void setCollisionTimeout(int collisionTimeout) {
-        this.collisionTimeout = collisionTimeout;
+        if (handle >= 0) {
+            store.setTimeout(handle, collisionTimeout);
+        } else {
+            this.collisionTimeout = collisionTimeout;
+        }
     }
 
     public void setMoveForward(boolean moveForward) {
-        this.moveForward = moveForward;
+        if (handle >= 0) {
+            store.setMovingForward(handle, moveForward);
+        } else {
+            this.moveForward = moveForward;
+        }
     }
 
     public void setXPos(double XPos) {
-        this.XPos = XPos;
+        if (handle >= 0) {
+            store.setX(handle, XPos);
+        } else {
+            this.XPos = XPos;
+        }
     }
 
     public void setYPos(double YPos) {
-        this.YPos = YPos;
+        if (handle >= 0) {
+            store.setY(handle, YPos);
+        } else {
+            this.YPos = YPos;
+        }
     }
 
     public void setSCREEN_SPEED(int SCREEN_SPEED) {
@@ -91,7 +158,11 @@ public class Car implements Collidable{
     }
 
     public void setCAR_SPEED(int CAR_SPEED) {
-        this.CAR_SPEED = CAR_SPEED;
+        if (handle >= 0) {
+            store.setSpeed(handle, CAR_SPEED);
+        } else {
+            this.CAR_SPEED = CAR_SPEED;
+        }
     }
 
     public void setCAR_RADIUS(double CAR_RADIUS) {
@@ -115,11 +186,19 @@ public class Car implements Collidable{
     }
 
     public double getXPos() {
-        return XPos;
+        return handle >= 0 ? store.getX(handle) : XPos;
     }
 
     public double getYPos() {
-        return YPos;
+        return handle >= 0 ? store.getY(handle) : YPos;
+    }
+
+    public double getDrawX(double alpha) {
+        return MiscUtils.interpolate(store.getPreviousX(handle), store.getX(handle), alpha);
+    }
+
+    public double getDrawY(double alpha) {
+        return MiscUtils.interpolate(store.getPreviousY(handle), store.getY(handle), alpha);
     }
 
     public int getSCREEN_SPEED() {
@@ -135,27 +214,60 @@ public class Car implements Collidable{
     }
 
     public int getCAR_SPEED() {
-        return CAR_SPEED;
+        return handle >= 0 ? store.getSpeed(handle) : CAR_SPEED;
     }
 
     public double getCAR_RADIUS() {
         return CAR_RADIUS;
     }
 
+    @Override
+    public double getRadius() {
+        return CAR_RADIUS;
+    }
+
     public double getCAR_DAMAGE() {
         return CAR_DAMAGE;
     }
 
     public double getCarHealth() {
-        return carHealth;
+        return handle >= 0 ? store.getHealth(handle) : carHealth;
     }
 
     public int getCollisionTimeout() {
-        return collisionTimeout;
+        return handle >= 0 ? store.getTimeout(handle) : collisionTimeout;
     }
 
     public boolean isMoveForward() {
-        return moveForward;
+        return handle >= 0 ? store.isMovingForward(handle) : moveForward;
+    }
+
+    public void setTrafficIndex(int trafficIndex) {
+        this.trafficIndex = trafficIndex;
+    }
+
+    public int getTrafficIndex() {
+        return trafficIndex;
+    }
+
+    public void setStore(EntityStore store) {
+        this.store = store;
+    }
+
+    public EntityStore getStore() {
+        return store;
+    }
+
+    public int getHandle() {
+        return handle;
+    }
+
+    public void setRandom(RandomService random) {
+        this.random = random;
+    }
+
+    public RandomService getRandom() {
+        return random;
     }
 
     public int getSEPARATION_DURATION() {
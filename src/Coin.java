@@ -6,36 +6,32 @@ import java.util.Properties;
  * The Coin class manages the coin's properties
  */
 public class Coin extends PowerUp{
-    private final Image COIN_IMAGE;
+    private final Sprite COIN_IMAGE;
 
     /**
      * Constructs a Coin object with specified properties and initial position.
      *
      * @param gameProps the game properties containing image and speed settings
+     * @param radii the collision radii of every kind of object
      * @param coinX the initial X coordinate of the coin
      * @param coinY the initial Y coordinate of the coin
      */
-    public Coin(Properties gameProps, double coinX, double coinY) {
+    public Coin(Properties gameProps, CollisionRadii radii, double coinX, double coinY) {
         // set coin properties
-        COIN_IMAGE = new Image(gameProps.getProperty("gameObjects.coin.image"));
+        COIN_IMAGE = new Sprite(gameProps.getProperty("gameObjects.coin.image"));
         setXPos(coinX);
         setYPos(coinY);
         setSCREEN_SPEED(Integer.parseInt(gameProps.getProperty("gameObjects.taxi.speedY")));
-        setTAXI_RADIUS(gameProps.getProperty("gameObjects.taxi.radius"));
-        setPOWER_UP_RADIUS(gameProps.getProperty("gameObjects.coin.radius"));
+        setREACH_SQUARED(radii.getReachSquared(CollisionRadii.TAXI, CollisionRadii.COIN));
     }
 
     /**
-     * Renders the coin on the screen if it hasn't collided and updates its position
-     * based on user input.
+     * Updates the coin's position based on user input.
      *
      * @param input the user input to determine movement direction
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
-    public void render(Input input, boolean driverInTaxi) {
-        if (!isHasCollided()) {
-            COIN_IMAGE.draw(getXPos(), getYPos());
-        }
+    public void update(InputSource input, boolean driverInTaxi) {
         if (input.isDown(Keys.UP) && driverInTaxi) {
             setYPos(getYPos() + getSCREEN_SPEED());
         } else if (input.isDown(Keys.UP) && !driverInTaxi) {
@@ -44,4 +40,22 @@ public class Coin extends PowerUp{
             setYPos(getYPos() - 1);
         }
     }
+
+    /**
+     * Draws the coin on the screen if it hasn't collided.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        if (!isHasCollided()) {
+            COIN_IMAGE.draw(getXPos(), getDrawY(alpha));
+        }
+    }
+
+    /**
+     * Releases the coin's texture once it has been removed from the game.
+     */
+    public void release() {
+        COIN_IMAGE.release();
+    }
 }
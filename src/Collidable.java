@@ -1,3 +1,24 @@
+/**
+ * Represents a game object with a circular collision area.
+ * Radii are read from the game properties once, when the object is constructed, and
+ * collisions are tested on squared distances so that no square root is taken.
+ */
 public interface Collidable {
+    /**
+     * Checks whether a circle overlaps this object, which it does when the distance between
+     * their centres is less than the sum of their radii.
+     *
+     * @param XPos the X position of the circle's centre
+     * @param YPos the Y position of the circle's centre
+     * @param radius the radius of the circle
+     * @return true if the circle overlaps this object, false otherwise
+     */
     boolean hasCollided(double XPos, double YPos, double radius);
+
+    /**
+     * Gets the radius of this object's collision area.
+     *
+     * @return the radius
+     */
+    double getRadius();
 }
@@ -0,0 +1,114 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Represents the overlapping pairs found by the detection phase of a collision step, grouped
+ * by the first object of each pair (the source). Detection only reads positions, so every
+ * source can be tested at the same time: the sources are split into fixed chunks, and large
+ * populations have their chunks run in parallel on the common fork-join pool. Each chunk
+ * writes only its own sources' pairs, and the chunks are the same however many threads run
+ * them, so the pairs found are identical to a sequential run on any number of cores.
+ * The caller then applies the pairs one source at a time, in order.
+ */
+public class CollisionPairs {
+    private static final int CHUNK_SIZE = 32;
+    private static final int PARALLEL_SOURCES = 128;
+
+    /**
+     * Represents the test of one source against the objects it might overlap.
+     */
+    public interface Detector {
+        /**
+         * Adds the index of every object that a source overlaps to a list, in the order
+         * that the objects are to be applied in.
+         *
+         * @param source the index of the source
+         * @param candidates a list free for the detector to collect candidates in
+         * @param mask a mask free for the detector to test candidates with
+         * @param hits the list to add the overlapped objects to
+         */
+        void detect(int source, IndexList candidates, OverlapMask mask, IndexList hits);
+    }
+
+    private final OverlapKernel KERNEL;
+    private final Detector DETECTOR;
+
+    // where each source's hits are in the hit list of its chunk
+    private int[] starts = new int[CHUNK_SIZE];
+    private int[] ends = new int[CHUNK_SIZE];
+    private Chunk[] chunks = new Chunk[0];
+    private int sourceCount = 0;
+
+    /**
+     * Constructs an empty CollisionPairs.
+     *
+     * @param kernel the kernel that the detector's masks test with
+     * @param detector the test of each source
+     */
+    public CollisionPairs(OverlapKernel kernel, Detector detector) {
+        this.KERNEL = kernel;
+        this.DETECTOR = detector;
+    }
+
+    /**
+     * Finds the pairs of every source, replacing the pairs found before. The detector must
+     * only read shared state, as it may be called from several threads at once.
+     *
+     * @param sourceCount the number of sources, which are numbered from 0
+     */
+    public void detect(int sourceCount) {
+        this.sourceCount = sourceCount;
+        if (sourceCount > starts.length) {
+            starts = Arrays.copyOf(starts, Math.max(sourceCount, starts.length * 2));
+            ends = Arrays.copyOf(ends, starts.length);
+        }
+        int chunkCount = (sourceCount + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        if (chunkCount > chunks.length) {
+            int oldCount = chunks.length;
+            chunks = Arrays.copyOf(chunks, chunkCount);
+            for (int c = oldCount; c < chunkCount; c++) {
+                chunks[c] = new Chunk(KERNEL);
+            }
+        }
+
+        if (sourceCount >= PARALLEL_SOURCES) {
+            IntStream.range(0, chunkCount).parallel().forEach(this::detectChunk);
+        } else {
+            for (int c = 0; c < chunkCount; c++) {
+                detectChunk(c);
+            }
+        }
+    }
+
+    // find the pairs of the sources in one chunk
+    private void detectChunk(int c) {
+        Chunk chunk = chunks[c];
+        chunk.hits.clear();
+        int last = Math.min(sourceCount, (c + 1) * CHUNK_SIZE);
+        for (int source = c * CHUNK_SIZE; source < last; source++) {
+            starts[source] = chunk.hits.size();
+            DETECTOR.detect(source, chunk.candidates, chunk.mask, chunk.hits);
+            ends[source] = chunk.hits.size();
+        }
+    }
+
+    // getters
+    public int getHitCount(int source) {
+        return ends[source] - starts[source];
+    }
+
+    public int getHit(int source, int k) {
+        return chunks[source / CHUNK_SIZE].hits.get(starts[source] + k);
+    }
+
+    // the working lists of one chunk, kept between steps
+    private static class Chunk {
+        private final IndexList candidates = new IndexList();
+        private final OverlapMask mask;
+        private final IndexList hits = new IndexList();
+
+        private Chunk(OverlapKernel kernel) {
+            this.mask = new OverlapMask(kernel);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+import java.util.Properties;
+
+/**
+ * Represents the collision radii of every kind of game object, read once from the game
+ * properties. Two objects collide when the distance between them is less than the sum of
+ * their radii, so the sum for every pair of kinds, and its square, is worked out in advance.
+ * A collision test can then compare a squared distance against the table with no parsing
+ * and no square root.
+ */
+public class CollisionRadii {
+    public static final int TAXI = 0;
+    public static final int OTHER_CAR = 1;
+    public static final int ENEMY_CAR = 2;
+    public static final int FIRE_BALL = 3;
+    public static final int DRIVER = 4;
+    public static final int PASSENGER = 5;
+    public static final int COIN = 6;
+    public static final int STAR = 7;
+    private static final String[] RADIUS_PROPERTIES = {
+            "gameObjects.taxi.radius", "gameObjects.otherCar.radius", "gameObjects.enemyCar.radius",
+            "gameObjects.fireball.radius", "gameObjects.driver.radius", "gameObjects.passenger.radius",
+            "gameObjects.coin.radius", "gameObjects.invinciblePower.radius"};
+
+    private final double[] radii = new double[RADIUS_PROPERTIES.length];
+    private final double[][] reaches = new double[RADIUS_PROPERTIES.length][RADIUS_PROPERTIES.length];
+    private final double[][] reachesSquared = new double[RADIUS_PROPERTIES.length][RADIUS_PROPERTIES.length];
+
+    /**
+     * Constructs the table of radii from the game properties.
+     *
+     * @param gameProps the game properties containing the radius of each kind of object
+     */
+    public CollisionRadii(Properties gameProps) {
+        for (int kind = 0; kind < radii.length; kind++) {
+            radii[kind] = Double.parseDouble(gameProps.getProperty(RADIUS_PROPERTIES[kind]));
+        }
+        for (int first = 0; first < radii.length; first++) {
+            for (int second = 0; second < radii.length; second++) {
+                reaches[first][second] = radii[first] + radii[second];
+                reachesSquared[first][second] = reaches[first][second] * reaches[first][second];
+            }
+        }
+    }
+
+    // getters, by kind of object such as CollisionRadii.TAXI
+    public double getRadius(int kind) {
+        return radii[kind];
+    }
+
+    public double getReach(int first, int second) {
+        return reaches[first][second];
+    }
+
+    public double getReachSquared(int first, int second) {
+        return reachesSquared[first][second];
+    }
+}
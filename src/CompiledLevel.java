@@ -0,0 +1,297 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Represents a level compiled from its objects and weather CSV files into one binary file,
+ * which is read through a memory-mapped view instead of being parsed every time the game starts.
+ * The file starts with a header holding a magic number, the format version, the number of
+ * weather intervals and of objects, and a CRC-32 checksum of everything after the header.
+ * The weather intervals follow in order, then one fixed-width record per object, in the
+ * order of the CSV file, which a CsvLevelStream has checked is by decreasing Y, so that a
+ * CompiledLevelStream hands out the same rows in the same order as the road reaches them.
+ * The game's level is compiled by the build, in the process-classes phase, and can be
+ * compiled by hand from the project directory with
+ * <pre>
+ * java CompiledLevel res/gameObjects.csv res/gameWeather.csv res/gameLevel.bin
+ * </pre>
+ * A compiled level older than either CSV file is ignored until it is compiled again.
+ */
+public class CompiledLevel {
+    private static final int MAGIC = 0x53544C56;
+    private static final int VERSION = 1;
+
+    // header
+    private static final int HEADER_SIZE = 24;
+    private static final int VERSION_OFFSET = 4;
+    private static final int WEATHER_COUNT_OFFSET = 8;
+    private static final int ENTITY_COUNT_OFFSET = 12;
+    private static final int CHECKSUM_OFFSET = 16;
+
+    // weather intervals: the kind of weather and the frames it starts and ends on
+    private static final int WEATHER_SIZE = 12;
+    private static final int WEATHER_START_OFFSET = 4;
+    private static final int WEATHER_END_OFFSET = 8;
+    private static final String[] WEATHER_KINDS = {"SUNNY", "RAINING"};
+
+    // objects: the kind of object, its position, and the trip details of a passenger
+    private static final int ENTITY_SIZE = 32;
+    private static final int HAS_UMBRELLA_OFFSET = 1;
+    private static final int PRIORITY_OFFSET = 4;
+    private static final int X_OFFSET = 8;
+    private static final int Y_OFFSET = 16;
+    private static final int END_X_OFFSET = 24;
+    private static final int DISTANCE_Y_OFFSET = 28;
+    private static final LevelEntity[] ENTITIES = LevelEntity.values();
+
+    private static final int INITIAL_ROWS = 1024;
+
+    private final MappedByteBuffer bytes;
+    private final int weatherCount;
+    private final int entityCount;
+    private final int entitiesStart;
+
+    /**
+     * Opens a compiled level, checking that it is complete and unchanged since it was compiled.
+     *
+     * @param path the path to the compiled level file
+     * @throws IOException if the file cannot be read, or is not a compiled level of this version,
+     *                     or does not match its checksum, or has objects out of order
+     */
+    public CompiledLevel(String path) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(path, "r")) {
+            long length = file.length();
+            if (length < HEADER_SIZE || length > Integer.MAX_VALUE) {
+                throw new IOException(path + " is not a compiled level");
+            }
+            // the mapped view stays valid once the file is closed
+            bytes = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+        }
+        if (bytes.getInt(0) != MAGIC) {
+            throw new IOException(path + " is not a compiled level");
+        }
+        if (bytes.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IOException(path + " was compiled for version " + bytes.getInt(VERSION_OFFSET)
+                    + " of the level format, not version " + VERSION);
+        }
+        weatherCount = bytes.getInt(WEATHER_COUNT_OFFSET);
+        entityCount = bytes.getInt(ENTITY_COUNT_OFFSET);
+        if (weatherCount < 0 || entityCount < 0) {
+            throw new IOException(path + " has a corrupt header");
+        }
+        long weathersEnd = HEADER_SIZE + (long) weatherCount * WEATHER_SIZE;
+        if (bytes.capacity() != weathersEnd + (long) entityCount * ENTITY_SIZE) {
+            throw new IOException(path + " is truncated");
+        }
+        // the size check keeps every offset within the mapped file, which is under 2 GB
+        entitiesStart = (int) weathersEnd;
+        if (bytes.getLong(CHECKSUM_OFFSET) != checksum(bytes)) {
+            throw new IOException(path + " does not match its checksum");
+        }
+        for (int row = 1; row < entityCount; row++) {
+            if (getY(row) > getY(row - 1)) {
+                throw new IOException(path + " has objects out of order of decreasing Y");
+            }
+        }
+    }
+
+    /**
+     * Opens a compiled level if one exists and was compiled after its CSV files last changed.
+     * A compiled level that cannot be read is reported and skipped, so that the game falls
+     * back to the CSV files.
+     *
+     * @param path the path to the compiled level file, or null if the level is not compiled
+     * @param objectsFile the path to the CSV file of level objects it was compiled from
+     * @param weatherFile the path to the CSV file of weather intervals it was compiled from
+     * @return the compiled level, or null if the CSV files should be read instead
+     */
+    public static CompiledLevel openIfCurrent(String path, String objectsFile, String weatherFile) {
+        if (path == null) {
+            return null;
+        }
+        File compiled = new File(path);
+        if (!compiled.isFile() || compiled.lastModified() < new File(objectsFile).lastModified()
+                || compiled.lastModified() < new File(weatherFile).lastModified()) {
+            return null;
+        }
+        try {
+            return new CompiledLevel(path);
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Compiles the CSV files of a level into one binary file, replacing any file already there.
+     * Objects of a kind the game does not know are left out, as the game skips them when it
+     * reads the CSV file, and the rest keep their order.
+     *
+     * @param objectsFile the path to the CSV file of level objects
+     * @param weatherFile the path to the CSV file of weather intervals
+     * @param path the path to write the compiled level to
+     * @throws IOException if a file cannot be read or written, or a weather interval is of an unknown kind
+     * @throws IllegalStateException if the objects are not in order of decreasing Y
+     */
+    public static void compile(String objectsFile, String weatherFile, String path) throws IOException {
+        int weatherRows = 0;
+        int[] weathers = new int[3 * INITIAL_ROWS];
+        try (CsvCursor row = new CsvCursor(weatherFile)) {
+            while (row.next()) {
+                if (3 * weatherRows == weathers.length) {
+                    weathers = Arrays.copyOf(weathers, weathers.length * 2);
+                }
+                String kind = row.stringAt(0);
+                int code = Arrays.asList(WEATHER_KINDS).indexOf(kind);
+                if (code < 0) {
+                    throw new IOException("unknown weather " + kind + " in " + weatherFile);
+                }
+                weathers[3 * weatherRows] = code;
+                weathers[3 * weatherRows + 1] = row.intAt(1);
+                weathers[3 * weatherRows + 2] = row.intAt(2);
+                weatherRows++;
+            }
+        }
+
+        int rows = 0;
+        LevelEntity[] entities = new LevelEntity[INITIAL_ROWS];
+        double[] xs = new double[INITIAL_ROWS];
+        double[] ys = new double[INITIAL_ROWS];
+        int[] details = new int[4 * INITIAL_ROWS];
+        LevelStream level = new CsvLevelStream(objectsFile);
+        try {
+            while (level.nextWithin(Double.NEGATIVE_INFINITY)) {
+                LevelEntity entity = level.getEntity();
+                if (entity == null) {
+                    continue;
+                }
+                if (rows == entities.length) {
+                    entities = Arrays.copyOf(entities, rows * 2);
+                    xs = Arrays.copyOf(xs, rows * 2);
+                    ys = Arrays.copyOf(ys, rows * 2);
+                    details = Arrays.copyOf(details, 4 * rows * 2);
+                }
+                entities[rows] = entity;
+                xs[rows] = level.getX();
+                ys[rows] = level.getY();
+                if (entity == LevelEntity.PASSENGER) {
+                    details[4 * rows] = level.getPriority();
+                    details[4 * rows + 1] = level.getEndX();
+                    details[4 * rows + 2] = level.getDistanceY();
+                    details[4 * rows + 3] = level.getHasUmbrella();
+                }
+                rows++;
+            }
+        } finally {
+            level.close();
+        }
+
+        long size = HEADER_SIZE + (long) weatherRows * WEATHER_SIZE + (long) rows * ENTITY_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException(objectsFile + " is too large to be compiled");
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path, "rw")) {
+            file.setLength(size);
+            MappedByteBuffer out = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+            out.putInt(0, MAGIC);
+            out.putInt(VERSION_OFFSET, VERSION);
+            out.putInt(WEATHER_COUNT_OFFSET, weatherRows);
+            out.putInt(ENTITY_COUNT_OFFSET, rows);
+            for (int i = 0; i < weatherRows; i++) {
+                int record = HEADER_SIZE + i * WEATHER_SIZE;
+                out.putInt(record, weathers[3 * i]);
+                out.putInt(record + WEATHER_START_OFFSET, weathers[3 * i + 1]);
+                out.putInt(record + WEATHER_END_OFFSET, weathers[3 * i + 2]);
+            }
+            int entitiesStart = HEADER_SIZE + weatherRows * WEATHER_SIZE;
+            for (int row = 0; row < rows; row++) {
+                int record = entitiesStart + row * ENTITY_SIZE;
+                out.put(record, (byte) entities[row].ordinal());
+                out.put(record + HAS_UMBRELLA_OFFSET, (byte) details[4 * row + 3]);
+                out.putInt(record + PRIORITY_OFFSET, details[4 * row]);
+                out.putDouble(record + X_OFFSET, xs[row]);
+                out.putDouble(record + Y_OFFSET, ys[row]);
+                out.putInt(record + END_X_OFFSET, details[4 * row + 1]);
+                out.putInt(record + DISTANCE_Y_OFFSET, details[4 * row + 2]);
+            }
+            out.putLong(CHECKSUM_OFFSET, checksum(out));
+            out.force();
+        }
+    }
+
+    // the CRC-32 of everything after the header
+    private static long checksum(ByteBuffer bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes.slice(HEADER_SIZE, bytes.capacity() - HEADER_SIZE));
+        return crc.getValue();
+    }
+
+    // the offset of the record of an object
+    private int entityRecord(int row) {
+        return entitiesStart + row * ENTITY_SIZE;
+    }
+
+    // getters
+    public int getWeatherCount() {
+        return weatherCount;
+    }
+
+    public Weather getWeather(int interval) {
+        int record = HEADER_SIZE + interval * WEATHER_SIZE;
+        return new Weather(WEATHER_KINDS[bytes.getInt(record)], bytes.getInt(record + WEATHER_START_OFFSET),
+                bytes.getInt(record + WEATHER_END_OFFSET));
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    // getters, by row in order of decreasing Y
+    public LevelEntity getEntity(int row) {
+        return ENTITIES[bytes.get(entityRecord(row))];
+    }
+
+    public double getX(int row) {
+        return bytes.getDouble(entityRecord(row) + X_OFFSET);
+    }
+
+    public double getY(int row) {
+        return bytes.getDouble(entityRecord(row) + Y_OFFSET);
+    }
+
+    public int getPriority(int row) {
+        return bytes.getInt(entityRecord(row) + PRIORITY_OFFSET);
+    }
+
+    public int getEndX(int row) {
+        return bytes.getInt(entityRecord(row) + END_X_OFFSET);
+    }
+
+    public int getDistanceY(int row) {
+        return bytes.getInt(entityRecord(row) + DISTANCE_Y_OFFSET);
+    }
+
+    public int getHasUmbrella(int row) {
+        return bytes.get(entityRecord(row) + HAS_UMBRELLA_OFFSET);
+    }
+
+    /**
+     * Compiles a level. Takes the objects file, the weather file and the compiled level file as arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: CompiledLevel <objects.csv> <weather.csv> <level file>");
+            System.exit(1);
+        }
+
+        compile(args[0], args[1], args[2]);
+        CompiledLevel level = new CompiledLevel(args[2]);
+        System.out.printf("compiled %d objects and %d weather intervals into %s%n",
+                level.getEntityCount(), level.getWeatherCount(), args[2]);
+    }
+}
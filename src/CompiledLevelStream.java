@@ -0,0 +1,85 @@
+/**
+ * Represents the rows of a level read from the binary file it was compiled into.
+ * Each row is a fixed-width record read where it lies in the mapped file, so moving to a row
+ * parses nothing and the getters read single fields of the record.
+ */
+public class CompiledLevelStream implements LevelStream {
+    private final CompiledLevel LEVEL;
+    private int row = -1;
+    // whether the stream is on a row that has been read but not yet handed out
+    private boolean rowWaiting = false;
+    private boolean ended = false;
+
+    /**
+     * Opens a compiled level for reading from its first row.
+     *
+     * @param level the compiled level
+     */
+    public CompiledLevelStream(CompiledLevel level) {
+        this.LEVEL = level;
+    }
+
+    @Override
+    public boolean nextWithin(double minY) {
+        if (!rowWaiting) {
+            if (ended || row + 1 == LEVEL.getEntityCount()) {
+                close();
+                return false;
+            }
+            row++;
+            rowWaiting = true;
+        }
+        if (LEVEL.getY(row) < minY) {
+            return false;
+        }
+        rowWaiting = false;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        ended = true;
+        rowWaiting = false;
+    }
+
+    // getters, for the current row
+    @Override
+    public LevelEntity getEntity() {
+        return LEVEL.getEntity(row);
+    }
+
+    @Override
+    public double getX() {
+        return LEVEL.getX(row);
+    }
+
+    @Override
+    public double getY() {
+        return LEVEL.getY(row);
+    }
+
+    @Override
+    public int getPriority() {
+        return LEVEL.getPriority(row);
+    }
+
+    @Override
+    public int getEndX() {
+        return LEVEL.getEndX(row);
+    }
+
+    @Override
+    public int getDistanceY() {
+        return LEVEL.getDistanceY(row);
+    }
+
+    @Override
+    public int getHasUmbrella() {
+        return LEVEL.getHasUmbrella(row);
+    }
+
+    @Override
+    public boolean isEnded() {
+        return ended;
+    }
+}
@@ -0,0 +1,327 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Represents a cursor over the rows of a comma separated file, read in one pass straight
+ * from a memory-mapped view of the file. Moving to the next row only records where each of
+ * its columns starts and ends, and the typed accessors parse a column where it lies in the
+ * mapped bytes, so reading a row allocates nothing unless a column is asked for as a String.
+ * Blank lines are skipped, and a carriage return before a line break is ignored.
+ * Files are read as UTF-8 and may be up to 2 GB long.
+ */
+public class CsvCursor implements Closeable {
+    private static final byte COLUMN_SEPARATOR = ',';
+    private static final byte LINE_BREAK = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+    // a decimal with at most this many digits after the point and a mantissa below 2^53 is parsed exactly
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final int MAX_MANTISSA_DIGITS = 18;
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer bytes;
+    private final int length;
+    private int position = 0;
+    private int lineNumber = 0;
+
+    // where each column of the current row starts, and where it ends exclusive of the separator
+    private int[] columnStarts = new int[8];
+    private int[] columnEnds = new int[8];
+    private int columnCount = 0;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Opens a cursor before the first row of a file.
+     *
+     * @param path the path to the file
+     * @throws IOException if the file cannot be opened or mapped
+     */
+    public CsvCursor(String path) throws IOException {
+        file = new RandomAccessFile(path, "r");
+        try {
+            if (file.length() > Integer.MAX_VALUE) {
+                throw new IOException(path + " is too large to be read by a CsvCursor");
+            }
+            length = (int) file.length();
+            bytes = file.getChannel().map(FileChannel.MapMode.READ_ONLY, 0, length);
+        } catch (IOException e) {
+            file.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves to the next row of the file that is not blank.
+     *
+     * @return true if the cursor is on a row, false if the file has no rows left
+     */
+    public boolean next() {
+        while (position < length) {
+            int start = position;
+            int end = start;
+            lineNumber++;
+            while (end < length && bytes.get(end) != LINE_BREAK) {
+                end++;
+            }
+            position = end + 1;
+            if (end > start && bytes.get(end - 1) == CARRIAGE_RETURN) {
+                end--;
+            }
+            if (end > start) {
+                splitColumns(start, end);
+                return true;
+            }
+        }
+        columnCount = 0;
+        return false;
+    }
+
+    /**
+     * Parses a column of the current row as an int, accepting the same text as Integer.parseInt.
+     *
+     * @param column the index of the column, from 0
+     * @return the value of the column
+     * @throws NumberFormatException if the column is not an int
+     */
+    public int intAt(int column) {
+        int start = columnStarts[column];
+        int end = columnEnds[column];
+        int i = start;
+        boolean negative = false;
+        if (i < end && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+            negative = bytes.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw new NumberFormatException("not an int: \"" + stringAt(column) + "\"");
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = bytes.get(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("not an int: \"" + stringAt(column) + "\"");
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("int out of range: \"" + stringAt(column) + "\"");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("int out of range: \"" + stringAt(column) + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parses a column of the current row as a double, giving the same value as Double.parseDouble.
+     *
+     * @param column the index of the column, from 0
+     * @return the value of the column
+     * @throws NumberFormatException if the column is not a double
+     */
+    public double doubleAt(int column) {
+        return parseDouble(columnStarts[column], columnEnds[column]);
+    }
+
+    /**
+     * Parses part of a column of the current row as a double, giving the same value as
+     * Double.parseDouble.
+     *
+     * @param column the index of the column, from 0
+     * @param from the offset in the column where the number starts
+     * @param to the offset in the column where the number ends, exclusive
+     * @return the value of that part of the column
+     * @throws NumberFormatException if that part of the column is not a double
+     */
+    public double doubleAt(int column, int from, int to) {
+        return parseDouble(columnStarts[column] + from, columnStarts[column] + to);
+    }
+
+    /**
+     * Finds the constant of an enum whose name is the text of a column of the current row.
+     *
+     * @param column the index of the column, from 0
+     * @param constants the constants to choose from, kept by the caller so that they are not copied each row
+     * @param <E> the enum type
+     * @return the constant with the column's name, or null if there is none
+     */
+    public <E extends Enum<E>> E enumAt(int column, E[] constants) {
+        for (E constant : constants) {
+            if (textEquals(column, constant.name())) {
+                return constant;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the text of a column of the current row.
+     *
+     * @param column the index of the column, from 0
+     * @return a new String holding the column's text
+     */
+    public String stringAt(int column) {
+        return decode(columnStarts[column], columnEnds[column]);
+    }
+
+    /**
+     * Gets part of the text of a column of the current row.
+     *
+     * @param column the index of the column, from 0
+     * @param from the offset in the column where the text starts
+     * @param to the offset in the column where the text ends, exclusive
+     * @return a new String holding that part of the column's text
+     */
+    public String stringAt(int column, int from, int to) {
+        return decode(columnStarts[column] + from, columnStarts[column] + to);
+    }
+
+    /**
+     * Finds where some ASCII text first appears in a column of the current row.
+     *
+     * @param column the index of the column, from 0
+     * @param text the text to look for
+     * @param from the offset in the column to start looking from
+     * @return the offset in the column where the text starts, or -1 if it does not appear
+     */
+    public int indexOf(int column, String text, int from) {
+        int start = columnStarts[column];
+        int last = columnEnds[column] - text.length();
+        for (int i = start + from; i <= last; i++) {
+            int matched = 0;
+            while (matched < text.length() && bytes.get(i + matched) == text.charAt(matched)) {
+                matched++;
+            }
+            if (matched == text.length()) {
+                return i - start;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Closes the file. The rows read so far stay valid until the mapped view is collected.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+
+    // record where each column of the row between start and end lies
+    private void splitColumns(int start, int end) {
+        columnCount = 0;
+        int columnStart = start;
+        for (int i = start; i <= end; i++) {
+            if (i == end || bytes.get(i) == COLUMN_SEPARATOR) {
+                if (columnCount == columnStarts.length) {
+                    columnStarts = Arrays.copyOf(columnStarts, columnCount * 2);
+                    columnEnds = Arrays.copyOf(columnEnds, columnCount * 2);
+                }
+                columnStarts[columnCount] = columnStart;
+                columnEnds[columnCount] = i;
+                columnCount++;
+                columnStart = i + 1;
+            }
+        }
+    }
+
+    // parse a plain decimal exactly where it lies, and anything else through Double.parseDouble
+    private double parseDouble(int start, int end) {
+        // Double.parseDouble ignores leading and trailing whitespace
+        int first = start;
+        int last = end;
+        while (first < last && bytes.get(first) <= ' ') {
+            first++;
+        }
+        while (last > first && bytes.get(last - 1) <= ' ') {
+            last--;
+        }
+
+        int i = first;
+        boolean negative = false;
+        if (i < last && (bytes.get(i) == '-' || bytes.get(i) == '+')) {
+            negative = bytes.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int mantissaDigits = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean point = false;
+        for (; i < last; i++) {
+            byte b = bytes.get(i);
+            if (b >= '0' && b <= '9') {
+                digits++;
+                if (mantissa > 0 || b != '0') {
+                    mantissaDigits++;
+                }
+                if (mantissaDigits > MAX_MANTISSA_DIGITS) {
+                    return Double.parseDouble(decode(start, end));
+                }
+                mantissa = mantissa * 10 + (b - '0');
+                if (point) {
+                    scale++;
+                }
+            } else if (b == '.' && !point) {
+                point = true;
+            } else {
+                // exponents, hexadecimal, NaN, Infinity and malformed text
+                return Double.parseDouble(decode(start, end));
+            }
+        }
+        if (digits == 0 || mantissa >= MAX_EXACT_MANTISSA || scale >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(decode(start, end));
+        }
+
+        // both values are exact doubles, so a single division is correctly rounded
+        double value = scale == 0 ? mantissa : mantissa / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    // compare the bytes of a column with ASCII text
+    private boolean textEquals(int column, String text) {
+        int start = columnStarts[column];
+        if (columnEnds[column] - start != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            if (bytes.get(start + i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // decode the bytes between start and end as UTF-8
+    private String decode(int start, int end) {
+        int size = end - start;
+        if (size > scratch.length) {
+            scratch = new byte[Math.max(size, scratch.length * 2)];
+        }
+        bytes.get(start, scratch, 0, size);
+        return new String(scratch, 0, size, StandardCharsets.UTF_8);
+    }
+
+    // getters
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    public int getLength(int column) {
+        return columnEnds[column] - columnStarts[column];
+    }
+}
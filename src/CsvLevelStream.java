@@ -0,0 +1,114 @@
+import java.io.IOException;
+
+/**
+ * Represents the rows of a level read from its CSV file.
+ * The file is read through a CsvCursor over a memory-mapped view of it, so only the pages
+ * around the rows being read are held in memory, and those by the operating system.
+ * Each row holds the kind of object, its X and Y positions and, for a passenger, its
+ * priority, trip end X, trip distance and whether it has an umbrella.
+ */
+public class CsvLevelStream implements LevelStream {
+    private static final int ENTITY_COLUMN = 0;
+    private static final int X_COLUMN = 1;
+    private static final int Y_COLUMN = 2;
+    private static final int PRIORITY_COLUMN = 3;
+    private static final int END_X_COLUMN = 4;
+    private static final int DISTANCE_Y_COLUMN = 5;
+    private static final int HAS_UMBRELLA_COLUMN = 6;
+    private static final LevelEntity[] ENTITIES = LevelEntity.values();
+
+    private final String FILE;
+    private final CsvCursor cursor;
+    // whether the cursor is on a row that has been read but not yet handed out
+    private boolean rowWaiting = false;
+    private boolean ended = false;
+    private double y;
+    private double previousY = Double.POSITIVE_INFINITY;
+
+    /**
+     * Opens a level file for reading.
+     *
+     * @param file the path to the CSV level file
+     */
+    public CsvLevelStream(String file) {
+        this.FILE = file;
+        this.cursor = IOUtils.openCommaSeparatedFile(file);
+    }
+
+    @Override
+    public boolean nextWithin(double minY) {
+        if (!rowWaiting) {
+            if (ended || !cursor.next()) {
+                close();
+                return false;
+            }
+            rowWaiting = true;
+            y = cursor.doubleAt(Y_COLUMN);
+            if (y > previousY) {
+                throw new IllegalStateException(FILE + " line " + cursor.getLineNumber() + ": Y " + y
+                        + " comes after Y " + previousY + ", but rows must be in order of decreasing Y");
+            }
+            previousY = y;
+        }
+        if (y < minY) {
+            return false;
+        }
+        rowWaiting = false;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        rowWaiting = false;
+        try {
+            cursor.close();
+        } catch (IOException ex) {
+            ex.printStackTrace();
+        }
+    }
+
+    // getters, for the current row
+    @Override
+    public LevelEntity getEntity() {
+        return cursor.enumAt(ENTITY_COLUMN, ENTITIES);
+    }
+
+    @Override
+    public double getX() {
+        return cursor.doubleAt(X_COLUMN);
+    }
+
+    @Override
+    public double getY() {
+        return y;
+    }
+
+    @Override
+    public int getPriority() {
+        return cursor.intAt(PRIORITY_COLUMN);
+    }
+
+    @Override
+    public int getEndX() {
+        return cursor.intAt(END_X_COLUMN);
+    }
+
+    @Override
+    public int getDistanceY() {
+        return cursor.intAt(DISTANCE_Y_COLUMN);
+    }
+
+    @Override
+    public int getHasUmbrella() {
+        return cursor.intAt(HAS_UMBRELLA_COLUMN);
+    }
+
+    @Override
+    public boolean isEnded() {
+        return ended;
+    }
+}
@@ -1,5 +1,3 @@
-import bagel.Image;
-import bagel.Input;
 import bagel.Keys;
 
 import java.util.Properties;
@@ -13,7 +11,7 @@ import java.util.Properties;
 public class Driver extends Human{
     private final Properties GAME_PROPS;
 
-    private final Image DRIVER_IMAGE;
+    private final Sprite DRIVER_IMAGE;
     private final int DRIVER_X_SPEED;
     private final int DRIVER_Y_SPEED;
 
@@ -31,21 +29,21 @@ public class Driver extends Human{
 
         setTAXI_GET_IN_RADIUS(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.driver.taxiGetInRadius")));
 
-        DRIVER_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.driver.image"));
+        DRIVER_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.driver.image"));
         setXPos(driverX);
         setYPos(driverY);
         DRIVER_X_SPEED = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.driver.walkSpeedX"));
         DRIVER_Y_SPEED = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.driver.walkSpeedY"));
-        setHUMAN_RADIUS(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.driver.radius")));
+        setHUMAN_RADIUS(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.driver.radius")));
         setHumanHealth(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.driver.health")));
     }
 
     /**
-     * Renders the driver on the screen based on user input and the driver's state.
+     * Updates the driver's position based on user input and the driver's state.
      * @param input the current input from the user for controlling the driver
      * @param taxiX the X position of the taxi for positioning the driver when in the taxi
      */
-    public void render(Input input, double taxiX) {
+    public void update(InputSource input, double taxiX) {
         if (getCollisionTimeout() > getSEPARATION_DURATION() && !invincible) {
             if (isMoveForward()) {
                 setYPos(getYPos() - getSEPARATION_DISTANCE());
@@ -59,7 +57,6 @@ public class Driver extends Human{
         }
 
         if (!isInTaxi()) {
-            DRIVER_IMAGE.draw(getXPos(), getYPos());
             if (input.isDown(Keys.LEFT)) {
                 setXPos(getXPos() - DRIVER_X_SPEED);
             } else if (input.isDown(Keys.RIGHT)) {
@@ -70,6 +67,24 @@ public class Driver extends Human{
         }
     }
 
+    /**
+     * Draws the driver on the screen if the driver is not in the taxi.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        if (!isInTaxi()) {
+            DRIVER_IMAGE.draw(getDrawX(alpha), getDrawY(alpha));
+        }
+    }
+
+    /**
+     * Releases the driver's texture once it has been removed from the game.
+     */
+    public void release() {
+        DRIVER_IMAGE.release();
+    }
+
     /**
      * Allows the driver to enter the taxi if within the specified radius.
      * @param taxiX the X position of the taxi
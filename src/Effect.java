@@ -1,5 +1,3 @@
-import bagel.Input;
-
 /**
  * Represents an abstract effect that can be rendered on the screen.
  * This class serves as a base for different types of visual effects in the game.
@@ -7,18 +5,56 @@ import bagel.Input;
 public abstract class Effect {
     private double XPos;
     private double YPos;
+    private double previousYPos;
     private int frames;
+    private int TTL;
     private int SCREEN_SPEED;
 
     /**
-     * Renders the effect on the screen based on the current input and whether the driver is in the taxi.
-     * Subclasses must provide an implementation for this method to define how the effect is visually
-     * represented during the game.
+     * Resets the effect so that a pooled effect can be shown again at a new position
+     * for its full time to live.
+     *
+     * @param XPos the X coordinate of the effect
+     * @param YPos the Y coordinate of the effect
+     */
+    public void reset(double XPos, double YPos) {
+        this.XPos = XPos;
+        this.YPos = YPos;
+        this.previousYPos = YPos;
+        this.frames = TTL;
+    }
+
+    /**
+     * Remembers the effect's position at the start of a tick. Effects only move vertically,
+     * with the road.
+     */
+    public void savePosition() {
+        previousYPos = YPos;
+    }
+
+    /**
+     * Updates the effect based on the current input and whether the driver is in the taxi.
+     * Subclasses must provide an implementation for this method to define how the effect
+     * moves and expires during the game.
      *
      * @param input the current input from the user, allowing for interaction with the effect
      * @param driverInTaxi a boolean indicating if the driver is currently in the taxi, affecting the effect's behavior
      */
-    public abstract void render(Input input, boolean driverInTaxi);
+    public abstract void update(InputSource input, boolean driverInTaxi);
+
+    /**
+     * Draws the effect on the screen. Subclasses must provide an implementation for this
+     * method to define how the effect is visually represented during the game.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public abstract void draw(double alpha);
+
+    /**
+     * Releases the effect's textures once it has finished. Subclasses must provide an
+     * implementation for this method to release the images they draw.
+     */
+    public abstract void release();
 
     //getters and setters
     public double getXPos() {
@@ -29,6 +65,10 @@ public abstract class Effect {
         return YPos;
     }
 
+    public double getDrawY(double alpha) {
+        return MiscUtils.interpolate(previousYPos, YPos, alpha);
+    }
+
     public void setXPos(double XPos) {
         this.XPos = XPos;
     }
@@ -41,6 +81,10 @@ public abstract class Effect {
         return frames;
     }
 
+    public int getTTL() {
+        return TTL;
+    }
+
     public int getSCREEN_SPEED() {
         return SCREEN_SPEED;
     }
@@ -49,6 +93,10 @@ public abstract class Effect {
         this.frames = frames;
     }
 
+    public void setTTL(int TTL) {
+        this.TTL = TTL;
+    }
+
     public void setSCREEN_SPEED(int SCREEN_SPEED) {
         this.SCREEN_SPEED = SCREEN_SPEED;
     }
@@ -1,8 +1,3 @@
-import bagel.Image;
-import bagel.Input;
-import bagel.Keys;
-
-import java.util.ArrayList;
 import java.util.Properties;
 
 /**
@@ -11,98 +6,91 @@ import java.util.Properties;
  */
 public class EnemyCar extends Car{
     private final Properties GAME_PROPS;
-    private final Image ENEMY_CAR_IMAGE;
+    private final Sprite ENEMY_CAR_IMAGE;
+    private final double ENEMY_CAR_HEALTH;
 
-    private ArrayList<FireBall> fireBalls;
+    private final FireBallManager FIRE_BALLS;
     private final int FIRE_BALL_SPAWN_RATE = 300;
 
     /**
      * Constructs an EnemyCar object with the given game properties.
      * Initializes the car's attributes such as speed, radius, damage, health, and lane positions.
-     * Also, initializes the fireballs list.
+     * The car must be reset before it is used, which gives it a random position and speed.
      *
      * @param gameProps The properties object that holds the game configuration values.
+     * @param fireBalls The fireballs in flight, which the car's fireballs are shot into.
+     * @param random The random numbers for the game session.
+     * @param store The store holding the state of every enemy car on the road.
      */
-    public EnemyCar(Properties gameProps) {
+    public EnemyCar(Properties gameProps, FireBallManager fireBalls, RandomService random, EntityStore store) {
         this.GAME_PROPS = gameProps;
-        ENEMY_CAR_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.enemyCar.image"));
+        setRandom(random);
+        setStore(store);
+        this.FIRE_BALLS = fireBalls;
+        ENEMY_CAR_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.enemyCar.image"));
 
         setCAR_MAX_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.enemyCar.maxSpeedY")));
         setCAR_MIN_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.enemyCar.minSpeedY")));
         setSCREEN_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY")));
         setCAR_RADIUS(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.radius")));
         setCAR_DAMAGE(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.damage")));
-        setCarHealth(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.health")));
+        ENEMY_CAR_HEALTH = Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.health"));
 
         setROAD_LANE_1(Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter1")));
         setROAD_LANE_2(Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter2")));
         setROAD_LANE_3(Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter3")));
-
-        this.getSpawnLocation();
-        setCAR_SPEED(MiscUtils.getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
-
-        this.fireBalls = new ArrayList<>();
     }
 
     /**
-     * Renders the EnemyCar on the screen and manages its movement and fireball generation.
-     * Also handles the collision timeout and adjusts the car's position.
-     *
-     * @param input The Input object to track user inputs.
-     * @param driverInTaxi A boolean that indicates if the driver is still in the taxi.
+     * Resets the EnemyCar so it can be spawned, giving it a random spawn location and speed,
+     * and full health.
      */
-    public void render(Input input, boolean driverInTaxi) {
-        generateFireBall(getXPos(), getYPos());
-
-        for (FireBall fireball: fireBalls) {
-            fireball.render(input, driverInTaxi);
-        }
-        removeFireBalls();
-
-        ENEMY_CAR_IMAGE.draw(getXPos(), getYPos());
-
-        if (getCollisionTimeout() > getSEPARATION_DURATION()) {
-            //handle separation logic
-            if (isMoveForward()) {
-                setYPos(getYPos() - 1);
-            } else {
-                setYPos(getYPos() + 1);
-            }
-            setCAR_SPEED(MiscUtils.getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
-        } else if (getCollisionTimeout() > 0) {
-            // do nothing
-        } else {
-            setYPos(getYPos() - getCAR_SPEED());
-        }
+    public void reset() {
+        respawn(ENEMY_CAR_HEALTH);
+        setCAR_SPEED(getRandom().getSpeeds().getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
+    }
 
-        if (input.isDown(Keys.UP) && driverInTaxi) {
-            setYPos(getYPos() + getSCREEN_SPEED());
-        } else if (input.isDown(Keys.UP) && !driverInTaxi) {
-            setYPos(getYPos() + 1);
-        } else if (input.isDown(Keys.DOWN) && !driverInTaxi) {
-            setYPos(getYPos() - 1);
-        }
+    /**
+     * Returns every fireball the EnemyCar has shot to the pool, when the car is about to be
+     * removed from the game.
+     */
+    public void recycleFireBalls() {
+        FIRE_BALLS.recycleShotBy(getHandle());
     }
 
-    private void generateFireBall(double XPos, double YPos) {
-        if (MiscUtils.canSpawn(FIRE_BALL_SPAWN_RATE)) {
-            // Create a new OtherCar instance and add it to the list
-            FireBall newFireBall = new FireBall(GAME_PROPS, XPos, YPos);
-            fireBalls.add(newFireBall);
+    /**
+     * Gives the EnemyCar a new random speed while it is backing away from a collision.
+     * The car itself is moved along with every other enemy car by EntityStore.moveTraffic,
+     * and its fireballs along with every other fireball by FireBallManager.move.
+     */
+    public void update() {
+        if (getCollisionTimeout() > getSEPARATION_DURATION()) {
+            setCAR_SPEED(getRandom().getSpeeds().getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
         }
     }
 
-    private void removeFireBalls() {
-        fireBalls.removeIf(fireBall -> fireBall.getYPos() < 0);
-        fireBalls.removeIf(FireBall::HasCollided);
+    /**
+     * Draws the EnemyCar on the screen. Its fireballs are drawn with every other fireball.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        ENEMY_CAR_IMAGE.draw(getDrawX(alpha), getDrawY(alpha));
     }
 
-    // getters and setters
-    public ArrayList<FireBall> getFireBalls() {
-        return fireBalls;
+    /**
+     * Releases the texture of the EnemyCar once it has been removed from the game.
+     */
+    public void release() {
+        ENEMY_CAR_IMAGE.release();
     }
 
-    public void setFireBalls(ArrayList<FireBall> fireBalls) {
-        this.fireBalls = fireBalls;
+    /**
+     * Randomly shoots a fireball from where the EnemyCar is, before it moves this tick.
+     */
+    public void generateFireBall() {
+        if (getRandom().getFireBalls().canSpawn(FIRE_BALL_SPAWN_RATE)) {
+            FIRE_BALLS.shoot(getHandle(), getXPos(), getYPos());
+        }
     }
 }
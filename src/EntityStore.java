@@ -0,0 +1,272 @@
+import java.util.Arrays;
+
+/**
+ * Represents the moving state of a population of game objects, such as the traffic cars or
+ * the fireballs, stored as parallel arrays with one array per field instead of as fields of
+ * separate objects. Loops that move or test every object then run over contiguous primitive
+ * arrays, which stay in cache and can be vectorised by the JIT.
+ * Each object is given a handle when it is added, which stays the same for as long as it is
+ * in the store. An object is removed by moving the last object into its slot, so the live
+ * objects always fill slots 0 to size - 1 and the handles are used to find where an object
+ * has moved to.
+ */
+public class EntityStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // per slot state, only slots 0 to size - 1 are live
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] previousXs = new double[INITIAL_CAPACITY];
+    private double[] previousYs = new double[INITIAL_CAPACITY];
+    private double[] radii = new double[INITIAL_CAPACITY];
+    private double[] healths = new double[INITIAL_CAPACITY];
+    private int[] timeouts = new int[INITIAL_CAPACITY];
+    private int[] speeds = new int[INITIAL_CAPACITY];
+    private boolean[] movingForward = new boolean[INITIAL_CAPACITY];
+    // the handle, in another store, of the object each object belongs to, such as the car that shot a fireball
+    private int[] owners = new int[INITIAL_CAPACITY];
+    private int[] handlesOfSlots = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    // the slot of each handle, or -1 for a handle that is not in use
+    private int[] slotsOfHandles = new int[INITIAL_CAPACITY];
+    private int[] freeHandles = new int[INITIAL_CAPACITY];
+    private int freeHandleCount = 0;
+    private int handleCount = 0;
+
+    /**
+     * Adds an object to the end of the store, with every field zeroed and no owner.
+     *
+     * @return the handle of the new object
+     */
+    public int add() {
+        if (size == xs.length) {
+            growSlots();
+        }
+
+        int handle;
+        if (freeHandleCount > 0) {
+            handle = freeHandles[--freeHandleCount];
+        } else {
+            if (handleCount == slotsOfHandles.length) {
+                slotsOfHandles = Arrays.copyOf(slotsOfHandles, handleCount * 2);
+                freeHandles = Arrays.copyOf(freeHandles, handleCount * 2);
+            }
+            handle = handleCount++;
+        }
+
+        int slot = size++;
+        xs[slot] = 0;
+        ys[slot] = 0;
+        previousXs[slot] = 0;
+        previousYs[slot] = 0;
+        radii[slot] = 0;
+        healths[slot] = 0;
+        timeouts[slot] = 0;
+        speeds[slot] = 0;
+        movingForward[slot] = false;
+        owners[slot] = -1;
+        handlesOfSlots[slot] = handle;
+        slotsOfHandles[handle] = slot;
+        return handle;
+    }
+
+    /**
+     * Removes an object from the store, moving the last object into its slot. The handle may
+     * be given to a new object afterwards.
+     *
+     * @param handle the handle of the object to remove
+     */
+    public void remove(int handle) {
+        int slot = slotsOfHandles[handle];
+        int last = --size;
+        if (slot != last) {
+            xs[slot] = xs[last];
+            ys[slot] = ys[last];
+            previousXs[slot] = previousXs[last];
+            previousYs[slot] = previousYs[last];
+            radii[slot] = radii[last];
+            healths[slot] = healths[last];
+            timeouts[slot] = timeouts[last];
+            speeds[slot] = speeds[last];
+            movingForward[slot] = movingForward[last];
+            owners[slot] = owners[last];
+            handlesOfSlots[slot] = handlesOfSlots[last];
+            slotsOfHandles[handlesOfSlots[slot]] = slot;
+        }
+        slotsOfHandles[handle] = -1;
+        freeHandles[freeHandleCount++] = handle;
+    }
+
+    /**
+     * Remembers where every object is at the start of a tick, so that frames drawn before the
+     * next tick can be placed between where the objects were and where they are.
+     */
+    public void savePositions() {
+        System.arraycopy(xs, 0, previousXs, 0, size);
+        System.arraycopy(ys, 0, previousYs, 0, size);
+    }
+
+    /**
+     * Moves every car one tick along its lane. A car backing away from a collision moves one
+     * pixel away from the car it hit, a car waiting out the rest of a collision stays put, and
+     * every other car drives up the screen at its own speed. Every car then scrolls with the road.
+     *
+     * @param separationDuration the collision timeout above which a car is still backing away
+     * @param scroll how far the road moves down the screen this tick
+     */
+    public void moveTraffic(int separationDuration, int scroll) {
+        for (int slot = 0; slot < size; slot++) {
+            if (timeouts[slot] > separationDuration) {
+                ys[slot] += movingForward[slot] ? -1 : 1;
+            } else if (timeouts[slot] == 0) {
+                ys[slot] -= speeds[slot];
+            }
+            ys[slot] += scroll;
+        }
+    }
+
+    /**
+     * Moves every projectile one tick up the screen at its own speed, then scrolls it with the road.
+     *
+     * @param scroll how far the road moves down the screen this tick
+     */
+    public void moveProjectiles(int scroll) {
+        for (int slot = 0; slot < size; slot++) {
+            ys[slot] -= speeds[slot];
+            ys[slot] += scroll;
+        }
+    }
+
+    // double the storage of every per slot array
+    private void growSlots() {
+        int capacity = xs.length * 2;
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        previousXs = Arrays.copyOf(previousXs, capacity);
+        previousYs = Arrays.copyOf(previousYs, capacity);
+        radii = Arrays.copyOf(radii, capacity);
+        healths = Arrays.copyOf(healths, capacity);
+        timeouts = Arrays.copyOf(timeouts, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        movingForward = Arrays.copyOf(movingForward, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+        handlesOfSlots = Arrays.copyOf(handlesOfSlots, capacity);
+    }
+
+    // getters and setters, by handle
+    public int getSlot(int handle) {
+        return slotsOfHandles[handle];
+    }
+
+    public double getX(int handle) {
+        return xs[slotsOfHandles[handle]];
+    }
+
+    public void setX(int handle, double x) {
+        xs[slotsOfHandles[handle]] = x;
+    }
+
+    public double getY(int handle) {
+        return ys[slotsOfHandles[handle]];
+    }
+
+    public void setY(int handle, double y) {
+        ys[slotsOfHandles[handle]] = y;
+    }
+
+    public double getPreviousX(int handle) {
+        return previousXs[slotsOfHandles[handle]];
+    }
+
+    public double getPreviousY(int handle) {
+        return previousYs[slotsOfHandles[handle]];
+    }
+
+    public void setPreviousPosition(int handle, double x, double y) {
+        int slot = slotsOfHandles[handle];
+        previousXs[slot] = x;
+        previousYs[slot] = y;
+    }
+
+    public double getRadius(int handle) {
+        return radii[slotsOfHandles[handle]];
+    }
+
+    public void setRadius(int handle, double radius) {
+        radii[slotsOfHandles[handle]] = radius;
+    }
+
+    public double getHealth(int handle) {
+        return healths[slotsOfHandles[handle]];
+    }
+
+    public void setHealth(int handle, double health) {
+        healths[slotsOfHandles[handle]] = health;
+    }
+
+    public int getTimeout(int handle) {
+        return timeouts[slotsOfHandles[handle]];
+    }
+
+    public void setTimeout(int handle, int timeout) {
+        timeouts[slotsOfHandles[handle]] = timeout;
+    }
+
+    public int getSpeed(int handle) {
+        return speeds[slotsOfHandles[handle]];
+    }
+
+    public void setSpeed(int handle, int speed) {
+        speeds[slotsOfHandles[handle]] = speed;
+    }
+
+    public boolean isMovingForward(int handle) {
+        return movingForward[slotsOfHandles[handle]];
+    }
+
+    public void setMovingForward(int handle, boolean forward) {
+        movingForward[slotsOfHandles[handle]] = forward;
+    }
+
+    public int getOwner(int handle) {
+        return owners[slotsOfHandles[handle]];
+    }
+
+    public void setOwner(int handle, int owner) {
+        owners[slotsOfHandles[handle]] = owner;
+    }
+
+    // getters of the per slot arrays, for loops over every object, only valid up to getSize()
+    public int getSize() {
+        return size;
+    }
+
+    public double[] getXs() {
+        return xs;
+    }
+
+    public double[] getYs() {
+        return ys;
+    }
+
+    public double[] getRadii() {
+        return radii;
+    }
+
+    public double[] getHealths() {
+        return healths;
+    }
+
+    public int[] getTimeouts() {
+        return timeouts;
+    }
+
+    public int[] getOwners() {
+        return owners;
+    }
+
+    public int getHandle(int slot) {
+        return handlesOfSlots[slot];
+    }
+}
@@ -0,0 +1,189 @@
+import java.util.ArrayList;
+
+/**
+ * Represents a queue of the game events of a tick, such as collisions, damage, effects to
+ * spawn, completed trips and collected power-ups, which the subsystems that respond to them
+ * consume in one batch per tick.
+ * Events are kept in a ring buffer of parallel primitive arrays that is allocated once, so
+ * publishing an event only writes a few numbers. Each event has a type, the kinds of the two
+ * objects involved (the constants of CollisionRadii), a position and a value; what the value
+ * means depends on the type. Events are numbered in the order they were published, and
+ * subscribers are given the numbers of each batch to read the events with.
+ */
+public class EventBus {
+    /** An object responded to hitting another: kind is the object, other kind what it hit. */
+    public static final int COLLISION = 0;
+    /** An object lost health: kind is the object, other kind the cause, value the health lost. */
+    public static final int DAMAGE = 1;
+    /** An effect is to be drawn: value is the health of what it is drawn over, which picks the effect. */
+    public static final int EFFECT_SPAWN = 2;
+    /** A trip has ended: kind is the number of the trip in the game, from 1, value the fare earned. */
+    public static final int TRIP_COMPLETED = 3;
+    /** A power-up was picked up: kind is the power-up, other kind who picked it up. */
+    public static final int POWER_UP_COLLECTED = 4;
+
+    /**
+     * Represents a subsystem that consumes the events of the bus.
+     */
+    public interface Subscriber {
+        /**
+         * Consumes a batch of events.
+         *
+         * @param events the bus to read the events from
+         * @param first the number of the first event of the batch
+         * @param end the number after the last event of the batch
+         */
+        void onEvents(EventBus events, long first, long end);
+    }
+
+    private final int MASK;
+    private final int[] types;
+    private final int[] kinds;
+    private final int[] otherKinds;
+    private final double[] xs;
+    private final double[] ys;
+    private final double[] values;
+
+    // events from head up to tail are waiting to be dispatched
+    private long head = 0;
+    private long tail = 0;
+    private final ArrayList<Subscriber> subscribers = new ArrayList<>();
+
+    /**
+     * Constructs an empty EventBus.
+     *
+     * @param capacity the number of events that can wait between dispatches, rounded up to a power of two
+     */
+    public EventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(1, capacity - 1)) << 1;
+        MASK = size - 1;
+        types = new int[size];
+        kinds = new int[size];
+        otherKinds = new int[size];
+        xs = new double[size];
+        ys = new double[size];
+        values = new double[size];
+    }
+
+    /**
+     * Adds a subscriber, which will be given every event dispatched from now on, after the
+     * subscribers added before it.
+     *
+     * @param subscriber the subscriber to add
+     */
+    public void subscribe(Subscriber subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Publishes that an object responded to hitting another.
+     *
+     * @param kind the kind of the object, such as CollisionRadii.TAXI
+     * @param otherKind the kind of the object it hit
+     * @param XPos the X position of the object
+     * @param YPos the Y position of the object
+     */
+    public void publishCollision(int kind, int otherKind, double XPos, double YPos) {
+        publish(COLLISION, kind, otherKind, XPos, YPos, 0);
+    }
+
+    /**
+     * Publishes that an object lost health.
+     *
+     * @param kind the kind of the object, such as CollisionRadii.TAXI
+     * @param otherKind the kind of the object that caused the damage
+     * @param damage the health lost
+     * @param XPos the X position of the object
+     * @param YPos the Y position of the object
+     */
+    public void publishDamage(int kind, int otherKind, double damage, double XPos, double YPos) {
+        publish(DAMAGE, kind, otherKind, XPos, YPos, damage);
+    }
+
+    /**
+     * Publishes that an effect is to be drawn over a damaged object.
+     *
+     * @param health the health the object was left with, which picks smoke or fire
+     * @param XPos the X position of the effect
+     * @param YPos the Y position of the effect
+     */
+    public void publishEffectSpawn(double health, double XPos, double YPos) {
+        publish(EFFECT_SPAWN, 0, 0, XPos, YPos, health);
+    }
+
+    /**
+     * Publishes that a trip has ended.
+     *
+     * @param trip the number of the trip in the game, counting from 1
+     * @param fare the fare earned
+     */
+    public void publishTripCompleted(int trip, double fare) {
+        publish(TRIP_COMPLETED, trip, 0, 0, 0, fare);
+    }
+
+    /**
+     * Publishes that a power-up was picked up.
+     *
+     * @param kind the kind of the power-up, such as CollisionRadii.COIN
+     * @param collectorKind the kind of the object that picked it up
+     * @param XPos the X position of the power-up
+     * @param YPos the Y position of the power-up
+     */
+    public void publishPowerUpCollected(int kind, int collectorKind, double XPos, double YPos) {
+        publish(POWER_UP_COLLECTED, kind, collectorKind, XPos, YPos, 0);
+    }
+
+    /**
+     * Gives every waiting event to each subscriber in turn, as one batch, and then empties the bus.
+     */
+    public void dispatch() {
+        if (head == tail) {
+            return;
+        }
+        long end = tail;
+        for (int i = 0; i < subscribers.size(); i++) {
+            subscribers.get(i).onEvents(this, head, end);
+        }
+        head = end;
+    }
+
+    // add an event, dispatching the waiting events first if the buffer is full
+    private void publish(int type, int kind, int otherKind, double XPos, double YPos, double value) {
+        if (tail - head == types.length) {
+            dispatch();
+        }
+        int index = (int) tail & MASK;
+        types[index] = type;
+        kinds[index] = kind;
+        otherKinds[index] = otherKind;
+        xs[index] = XPos;
+        ys[index] = YPos;
+        values[index] = value;
+        tail++;
+    }
+
+    // getters, by event number, only valid for the events of the batch being consumed
+    public int getType(long event) {
+        return types[(int) event & MASK];
+    }
+
+    public int getKind(long event) {
+        return kinds[(int) event & MASK];
+    }
+
+    public int getOtherKind(long event) {
+        return otherKinds[(int) event & MASK];
+    }
+
+    public double getX(long event) {
+        return xs[(int) event & MASK];
+    }
+
+    public double getY(long event) {
+        return ys[(int) event & MASK];
+    }
+
+    public double getValue(long event) {
+        return values[(int) event & MASK];
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Represents a count of the events of each type published on an EventBus, for telemetry.
+ */
+public class EventCounter implements EventBus.Subscriber {
+    private static final String[] TYPE_NAMES =
+            {"collisions", "damage", "effects", "trips", "powerUps"};
+
+    private final long[] counts = new long[TYPE_NAMES.length];
+
+    @Override
+    public void onEvents(EventBus events, long first, long end) {
+        for (long event = first; event < end; event++) {
+            counts[events.getType(event)]++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("events:");
+        for (int i = 0; i < TYPE_NAMES.length; i++) {
+            builder.append(' ').append(TYPE_NAMES[i]).append(' ').append(counts[i]);
+        }
+        return builder.toString();
+    }
+
+    // getters
+    public long getCount(int type) {
+        return counts[type];
+    }
+}
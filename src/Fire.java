@@ -1,5 +1,3 @@
-import bagel.Image;
-import bagel.Input;
 import bagel.Keys;
 
 import java.util.Properties;
@@ -10,7 +8,7 @@ import java.util.Properties;
  */
 public class Fire extends Effect {
     private final Properties GAME_PROPS;
-    private final Image FIRE_IMAGE;
+    private final Sprite FIRE_IMAGE;
 
     /**
      * Constructs a Fire object with specified properties, position, and frame settings.
@@ -21,24 +19,21 @@ public class Fire extends Effect {
      */
     public Fire(Properties gameProps, double XPos, double YPos) {
         this.GAME_PROPS = gameProps;
-        setXPos(XPos);
-        setYPos(YPos);
-        FIRE_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.fire.image"));
-        setFrames(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.smoke.ttl")));
+        FIRE_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.fire.image"));
+        setTTL(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.smoke.ttl")));
         setSCREEN_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY")));
+        reset(XPos, YPos);
     }
 
     /**
-     * Renders the fire on the screen and updates its position based on user input.
+     * Updates the fire's position based on user input.
      * Decreases frame count as the fire persists.
      *
      * @param input the user input to determine movement direction
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
     @Override
-    public void render(Input input, boolean driverInTaxi) {
-        FIRE_IMAGE.draw(getXPos(), getYPos());
-
+    public void update(InputSource input, boolean driverInTaxi) {
         if (input.isDown(Keys.UP) && driverInTaxi) {
             setYPos(getYPos() + getSCREEN_SPEED());
         } else if (input.isDown(Keys.UP) && !driverInTaxi) {
@@ -51,4 +46,22 @@ public class Fire extends Effect {
             setFrames(getFrames() - 1);
         }
     }
+
+    /**
+     * Draws the fire on the screen.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    @Override
+    public void draw(double alpha) {
+        FIRE_IMAGE.draw(getXPos(), getDrawY(alpha));
+    }
+
+    /**
+     * Releases the fire's texture once it has finished.
+     */
+    @Override
+    public void release() {
+        FIRE_IMAGE.release();
+    }
 }
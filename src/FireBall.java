@@ -1,78 +1,109 @@
-import bagel.*;
 import java.util.Properties;
 
 /**
  * Represents a fireball that can be rendered on the screen.
- * The FireBall class manages its fireball properties.
+ * The FireBall class manages its fireball properties. While a fireball is in flight its
+ * position lives in an EntityStore shared by all fireballs, so that they can be moved in one loop.
  */
 public class FireBall {
     private final Properties GAME_PROPS;
 
-    private final Image FIRE_BALL_IMAGE;
+    private final Sprite FIRE_BALL_IMAGE;
     private final int FIRE_BALL_SPEED;
     private final double FIRE_BALL_RADIUS;
-    private final int SCREEN_SPEED;
     private final double FIRE_BALL_DAMAGE;
 
+    private final EntityStore STORE;
+    private int handle = -1;
+
+    // the fireball's position while it is not in the store
     private double XPos;
     private double YPos;
 
     private boolean hasCollided = false;
 
     /**
-     * Constructs a FireBall object with specified properties.
+     * Constructs a FireBall object with specified properties. The fireball must be reset
+     * before it is used, which places it where it is shot from.
      *
      * @param gameProps the game properties containing image paths, speed, and other settings
-     * @param XPos the initial X position of the fireball
-     * @param YPos the initial Y position of the fireball
+     * @param store the store holding the positions of every fireball in flight
      */
-    public FireBall(Properties gameProps, double XPos, double YPos) {
+    public FireBall(Properties gameProps, EntityStore store) {
         this.GAME_PROPS = gameProps;
+        this.STORE = store;
 
-        FIRE_BALL_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.fireball.image"));
+        FIRE_BALL_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.fireball.image"));
         FIRE_BALL_SPEED = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.fireball.shootSpeedY"));
         FIRE_BALL_RADIUS = Double.parseDouble(GAME_PROPS.getProperty("gameObjects.fireball.radius"));
-        SCREEN_SPEED = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY"));
         FIRE_BALL_DAMAGE = Double.parseDouble(GAME_PROPS.getProperty("gameObjects.fireball.damage"));
-
-        this.XPos = XPos;
-        this.YPos = YPos;
     }
 
     /**
-     * Renders the fireball on the screen and updates its position based on user input.
+     * Resets the fireball so that it is shot from the given position, adding it to its store
+     * if it is not already in it.
      *
-     * @param input the user input to determine movement direction
-     * @param driverInTaxi indicates if the driver is currently in the taxi
+     * @param XPos the initial X position of the fireball
+     * @param YPos the initial Y position of the fireball
      */
-    public void render(Input input, boolean driverInTaxi) {
-        FIRE_BALL_IMAGE.draw(XPos, YPos);
-
-        YPos -= FIRE_BALL_SPEED;
+    public void reset(double XPos, double YPos) {
+        if (handle < 0) {
+            handle = STORE.add();
+            STORE.setRadius(handle, FIRE_BALL_RADIUS);
+            STORE.setSpeed(handle, FIRE_BALL_SPEED);
+        }
+        STORE.setX(handle, XPos);
+        STORE.setY(handle, YPos);
+        STORE.setPreviousPosition(handle, XPos, YPos);
+        this.hasCollided = false;
+    }
 
-        if (input.isDown(Keys.UP) && driverInTaxi) {
-            YPos += SCREEN_SPEED;
-        } else if (input.isDown(Keys.UP) && !driverInTaxi) {
-            YPos += 1;
-        } else if (input.isDown(Keys.DOWN) && !driverInTaxi) {
-            YPos -= 1;
+    /**
+     * Takes the fireball out of flight, removing it from its store. The fireball keeps the
+     * position it was last at.
+     */
+    public void despawn() {
+        if (handle >= 0) {
+            XPos = STORE.getX(handle);
+            YPos = STORE.getY(handle);
+            STORE.remove(handle);
+            handle = -1;
         }
+    }
+
+    /**
+     * Draws the fireball on the screen.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        FIRE_BALL_IMAGE.draw(STORE.getX(handle), MiscUtils.interpolate(STORE.getPreviousY(handle), STORE.getY(handle), alpha));
+    }
 
+    /**
+     * Releases the fireball's texture once it has been removed from the game.
+     */
+    public void release() {
+        FIRE_BALL_IMAGE.release();
     }
 
     // getters and setters
     public double getXPos() {
-        return XPos;
+        return handle >= 0 ? STORE.getX(handle) : XPos;
     }
 
     public double getYPos() {
-        return YPos;
+        return handle >= 0 ? STORE.getY(handle) : YPos;
     }
 
     public double getFIRE_BALL_RADIUS() {
         return FIRE_BALL_RADIUS;
     }
 
+    public int getHandle() {
+        return handle;
+    }
+
     public double getFIRE_BALL_DAMAGE() {
         return FIRE_BALL_DAMAGE;
     }
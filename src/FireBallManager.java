@@ -0,0 +1,133 @@
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * Represents every fireball in flight, shot by any enemy car.
+ * The fireballs are kept in one EntityStore, with the handle of the enemy car that shot each
+ * fireball stored as its owner, so that a fireball can be told apart from its shooter's own
+ * by comparing handles rather than searching the shooter's list. The fireballs are taken from
+ * and returned to one pool, and are moved, removed and drawn in single passes over the store.
+ */
+public class FireBallManager {
+    private final EntityStore STORE = new EntityStore();
+    private final ObjectPool<FireBall> POOL;
+
+    // the fireball of each handle in the store, or null for a handle that is not in use
+    private FireBall[] fireBallsOfHandles = new FireBall[16];
+
+    /**
+     * Constructs a FireBallManager with no fireballs in flight.
+     *
+     * @param gameProps the game properties containing the fireball image, speed and other settings
+     * @param maxFree the largest number of fireballs kept for reuse once they leave the game
+     */
+    public FireBallManager(Properties gameProps, int maxFree) {
+        POOL = new ObjectPool<>(maxFree, () -> new FireBall(gameProps, STORE), FireBall::release);
+    }
+
+    /**
+     * Shoots a fireball from the given position.
+     *
+     * @param shooter the handle of the enemy car shooting the fireball
+     * @param XPos the X position the fireball is shot from
+     * @param YPos the Y position the fireball is shot from
+     */
+    public void shoot(int shooter, double XPos, double YPos) {
+        FireBall fireBall = POOL.acquire();
+        fireBall.reset(XPos, YPos);
+        int handle = fireBall.getHandle();
+        STORE.setOwner(handle, shooter);
+        if (handle >= fireBallsOfHandles.length) {
+            fireBallsOfHandles = Arrays.copyOf(fireBallsOfHandles, Math.max(handle + 1, fireBallsOfHandles.length * 2));
+        }
+        fireBallsOfHandles[handle] = fireBall;
+    }
+
+    /**
+     * Moves every fireball one tick up the screen and scrolls it with the road.
+     *
+     * @param scroll how far the road moves down the screen this tick
+     */
+    public void move(int scroll) {
+        STORE.moveProjectiles(scroll);
+    }
+
+    /**
+     * Returns the fireballs that have left the top of the screen or hit something to the pool,
+     * once every fireball has moved this tick.
+     */
+    public void removeSpent() {
+        double[] YPositions = STORE.getYs();
+        // removing a fireball moves the last one into its slot, so the slots are visited from the end
+        for (int slot = STORE.getSize() - 1; slot >= 0; slot--) {
+            FireBall fireBall = getFireBall(slot);
+            if (YPositions[slot] < 0 || fireBall.HasCollided()) {
+                recycle(fireBall);
+            }
+        }
+    }
+
+    /**
+     * Returns every fireball shot by an enemy car to the pool, once the car has been removed
+     * from the game, so that its handle can be given to another car.
+     *
+     * @param shooter the handle of the enemy car
+     */
+    public void recycleShotBy(int shooter) {
+        int[] owners = STORE.getOwners();
+        for (int slot = STORE.getSize() - 1; slot >= 0; slot--) {
+            if (owners[slot] == shooter) {
+                recycle(getFireBall(slot));
+            }
+        }
+    }
+
+    /**
+     * Draws every fireball on the screen.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        for (int slot = 0; slot < STORE.getSize(); slot++) {
+            getFireBall(slot).draw(alpha);
+        }
+    }
+
+    /**
+     * Releases the textures of every fireball, in flight or in the pool, once the game is over.
+     */
+    public void release() {
+        for (int slot = 0; slot < STORE.getSize(); slot++) {
+            getFireBall(slot).release();
+        }
+        POOL.clear();
+    }
+
+    // take a fireball out of flight and return it to the pool
+    private void recycle(FireBall fireBall) {
+        fireBallsOfHandles[fireBall.getHandle()] = null;
+        fireBall.despawn();
+        POOL.release(fireBall);
+    }
+
+    // getters, by slot in the store
+    public FireBall getFireBall(int slot) {
+        return fireBallsOfHandles[STORE.getHandle(slot)];
+    }
+
+    public int getShooter(int slot) {
+        return STORE.getOwners()[slot];
+    }
+
+    public EntityStore getStore() {
+        return STORE;
+    }
+
+    public int getCount() {
+        return STORE.getSize();
+    }
+
+    public String getPoolStats() {
+        return POOL.getStats();
+    }
+}
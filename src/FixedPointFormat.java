@@ -0,0 +1,54 @@
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Formats numbers with a fixed number of decimal places straight into a StringBuilder,
+ * without the temporary objects that String.format creates. Like String.format, values are
+ * rounded half up on the shortest decimal string that represents the double.
+ */
+public class FixedPointFormat {
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000};
+    // how close to a half the scaled value must be for the decimal string to be needed
+    private static final double HALF_TOLERANCE = 1e-6;
+
+    /**
+     * Appends a number with the given number of decimal places.
+     *
+     * @param builder the builder to append to
+     * @param value the number to format
+     * @param decimals the number of decimal places, from 0 to 6
+     */
+    public static void append(StringBuilder builder, double value, int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            builder.append(value);
+            return;
+        }
+        if (value < 0) {
+            builder.append('-');
+            value = -value;
+        }
+
+        long scale = POWERS_OF_TEN[decimals];
+        long scaled = round(value, scale, decimals);
+        builder.append(scaled / scale);
+
+        if (decimals > 0) {
+            builder.append('.');
+            long fraction = scaled % scale;
+            for (long digit = scale / 10; digit > 0; digit /= 10) {
+                builder.append((char) ('0' + fraction / digit % 10));
+            }
+        }
+    }
+
+    // round a positive value scaled by a power of ten, half up
+    private static long round(double value, long scale, int decimals) {
+        double scaledValue = value * scale;
+        double fraction = scaledValue - Math.floor(scaledValue);
+        if (Math.abs(fraction - 0.5) < HALF_TOLERANCE) {
+            // the multiplication may have rounded across the half, so round the decimal string instead
+            return BigDecimal.valueOf(value).setScale(decimals, RoundingMode.HALF_UP).unscaledValue().longValue();
+        }
+        return Math.round(scaledValue);
+    }
+}
@@ -0,0 +1,34 @@
+import bagel.Font;
+
+import java.util.HashMap;
+
+/**
+ * A process-wide cache of fonts keyed by font file and size.
+ * Building a bagel Font rasterises the whole TTF into a glyph atlas, so every screen and
+ * game object shares one Font per face and size instead of constructing its own.
+ */
+public class FontCache {
+    private static final HashMap<String, HashMap<Integer, Font>> fonts = new HashMap<>();
+
+    /**
+     * Gets the font for the given file and size, building it the first time it is asked for.
+     *
+     * @param path the path of the TTF file
+     * @param size the font size
+     * @return the shared font
+     */
+    public static Font getFont(String path, int size) {
+        HashMap<Integer, Font> sizes = fonts.get(path);
+        if (sizes == null) {
+            sizes = new HashMap<>();
+            fonts.put(path, sizes);
+        }
+
+        Font font = sizes.get(size);
+        if (font == null) {
+            font = new Font(path, size);
+            sizes.put(size, font);
+        }
+        return font;
+    }
+}
@@ -0,0 +1,211 @@
+import bagel.Font;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Represents the frame timings of a gameplay session, broken down by phase.
+ * In the window, a frame is one frame drawn, begun by the game loop before the ticks it runs
+ * and ended once it has been drawn, so it holds the update work of however many ticks the
+ * frame ran, none included, and the drawing of that frame alone. In a HeadlessSimulation,
+ * where nothing is drawn, each tick is a frame. Each phase of a frame is
+ * timed between a start and a stop, which may happen several times a frame (once in each
+ * tick and once while drawing, for example), and the phase's total for the frame is
+ * recorded in a LatencyHistogram when the frame ends. The number of live
+ * entities of each kind is kept alongside, so that a slow frame can be put down to the
+ * subsystem and the crowd that caused it. The timings can be shown in an overlay during the
+ * game and written to a CSV file when it ends.
+ */
+public class FrameProfiler {
+    public static final int SPAWNING = 0;
+    public static final int WEATHER = 1;
+    public static final int ENTITIES = 2;
+    public static final int COLLISIONS = 3;
+    public static final int TRIPS = 4;
+    public static final int POWER_UPS = 5;
+    private static final int FRAME = 6;
+    private static final String[] PHASE_NAMES =
+            {"spawning", "weather", "entities", "collisions", "trips", "powerUps", "frame"};
+
+    public static final int OTHER_CARS = 0;
+    public static final int ENEMY_CARS = 1;
+    public static final int FIRE_BALLS = 2;
+    public static final int EFFECTS = 3;
+    public static final int DAMAGED_TAXIS = 4;
+    private static final String[] ENTITY_NAMES =
+            {"otherCars", "enemyCars", "fireBalls", "effects", "damagedTaxis"};
+
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final int OVERLAY_REFRESH_FRAMES = 30;
+    private static final double OVERLAY_X = 10;
+    private static final double OVERLAY_Y = 140;
+    private static final double OVERLAY_LINE_HEIGHT = 18;
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASE_NAMES.length];
+    private final long[] phaseStarts = new long[PHASE_NAMES.length];
+    private final long[] phaseNanos = new long[PHASE_NAMES.length];
+    private final int[] entityCounts = new int[ENTITY_NAMES.length];
+    private final int[] maxEntityCounts = new int[ENTITY_NAMES.length];
+
+    private long frameStart = -1;
+    private long frames = 0;
+
+    private boolean overlayShown = false;
+    private final String[] overlayLines = new String[PHASE_NAMES.length + 1];
+    private final StringBuilder builder = new StringBuilder();
+
+    /**
+     * Constructs a FrameProfiler with no frames recorded.
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Starts a new frame. Phases timed outside a frame are not recorded.
+     */
+    public void beginFrame() {
+        for (int i = 0; i < FRAME; i++) {
+            phaseNanos[i] = 0;
+        }
+        frameStart = System.nanoTime();
+    }
+
+    /**
+     * Ends the current frame once it has been drawn, recording the total of each phase and
+     * the frame's own duration from when it began.
+     */
+    public void endFrame() {
+        if (frameStart < 0) {
+            return;
+        }
+        for (int i = 0; i < FRAME; i++) {
+            histograms[i].record(phaseNanos[i]);
+            phaseNanos[i] = 0;
+        }
+        histograms[FRAME].record(System.nanoTime() - frameStart);
+        frameStart = -1;
+        frames++;
+    }
+
+    /**
+     * Starts timing a phase of the current frame.
+     *
+     * @param phase the phase, such as FrameProfiler.COLLISIONS
+     */
+    public void start(int phase) {
+        phaseStarts[phase] = System.nanoTime();
+    }
+
+    /**
+     * Stops timing a phase of the current frame, adding the time since it was started to
+     * the phase's total for the frame.
+     *
+     * @param phase the phase, such as FrameProfiler.COLLISIONS
+     */
+    public void stop(int phase) {
+        phaseNanos[phase] += System.nanoTime() - phaseStarts[phase];
+    }
+
+    /**
+     * Sets the number of live entities of a kind in the current frame.
+     *
+     * @param entity the kind of entity, such as FrameProfiler.OTHER_CARS
+     * @param count the number of them alive
+     */
+    public void setEntityCount(int entity, int count) {
+        entityCounts[entity] = count;
+        if (count > maxEntityCounts[entity]) {
+            maxEntityCounts[entity] = count;
+        }
+    }
+
+    /**
+     * Switches the overlay on or off.
+     */
+    public void toggleOverlay() {
+        overlayShown = !overlayShown;
+    }
+
+    /**
+     * Draws the percentiles of each phase and the live entity counts, if the overlay is on.
+     * The text is refreshed every OVERLAY_REFRESH_FRAMES frames so that it can be read.
+     *
+     * @param font the font to draw the overlay with
+     */
+    public void drawOverlay(Font font) {
+        if (!overlayShown) {
+            return;
+        }
+        if (overlayLines[0] == null || frames % OVERLAY_REFRESH_FRAMES == 0) {
+            formatOverlay();
+        }
+        for (int i = 0; i < overlayLines.length; i++) {
+            font.drawString(overlayLines[i], OVERLAY_X, OVERLAY_Y + i * OVERLAY_LINE_HEIGHT);
+        }
+    }
+
+    /**
+     * Writes the percentiles of each phase and the largest entity counts seen to a CSV file.
+     *
+     * @param path the path of the file to write, replacing it if it exists
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(String path) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(Paths.get(path)))) {
+            out.println("phase,frames,p50_us,p99_us,max_us,mean_us");
+            for (int i = 0; i < histograms.length; i++) {
+                LatencyHistogram histogram = histograms[i];
+                out.printf("%s,%d,%.1f,%.1f,%.1f,%.1f%n", PHASE_NAMES[i], histogram.getCount(),
+                        histogram.getPercentile(0.5) / NANOS_PER_MICRO,
+                        histogram.getPercentile(0.99) / NANOS_PER_MICRO,
+                        histogram.getMax() / NANOS_PER_MICRO,
+                        histogram.getMean() / NANOS_PER_MICRO);
+            }
+            out.println();
+            out.println("entity,last,max");
+            for (int i = 0; i < ENTITY_NAMES.length; i++) {
+                out.printf("%s,%d,%d%n", ENTITY_NAMES[i], entityCounts[i], maxEntityCounts[i]);
+            }
+        }
+    }
+
+    // rebuild the overlay text from the histograms and entity counts
+    private void formatOverlay() {
+        for (int i = 0; i < histograms.length; i++) {
+            LatencyHistogram histogram = histograms[i];
+            builder.setLength(0);
+            builder.append(PHASE_NAMES[i]).append(" p50 ");
+            FixedPointFormat.append(builder, histogram.getPercentile(0.5) / NANOS_PER_MICRO, 0);
+            builder.append(" p99 ");
+            FixedPointFormat.append(builder, histogram.getPercentile(0.99) / NANOS_PER_MICRO, 0);
+            builder.append(" max ");
+            FixedPointFormat.append(builder, histogram.getMax() / NANOS_PER_MICRO, 0);
+            builder.append(" us");
+            overlayLines[i] = builder.toString();
+        }
+
+        builder.setLength(0);
+        for (int i = 0; i < ENTITY_NAMES.length; i++) {
+            builder.append(ENTITY_NAMES[i]).append(' ').append(entityCounts[i]).append(i + 1 < ENTITY_NAMES.length ? "  " : "");
+        }
+        overlayLines[PHASE_NAMES.length] = builder.toString();
+    }
+
+    // getters
+    public boolean isOverlayShown() {
+        return overlayShown;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public LatencyHistogram getHistogram(int phase) {
+        return histograms[phase];
+    }
+}
@@ -1,6 +1,7 @@
 import bagel.*;
 
-import java.util.ArrayList;
+import java.io.File;
+import java.io.IOException;
 import java.util.Properties;
 
 /**
@@ -14,6 +15,8 @@ public class GameEndScreen {
 
     private final Image BACKGROUND_IMAGE;
     private final String SCORES_FILE;
+    private final String SCORE_RECORDS_FILE;
+    private final String SCORE_INDEX_FILE;
 
     private final String TITLE;
     private final int SCORES_FONT_SIZE;
@@ -32,8 +35,11 @@ public class GameEndScreen {
 
     private String playerName;
     private double finalScore;
+    private int sessionFrames;
     private boolean scoreWritten = false;
-    private ArrayList<String[]> scoreBoard;
+    private final Leaderboard leaderboard;
+    private final double[] scoreXs;
+    private static final int SCORES_SHOWN = 5;
 
     /**
      * Constructs a GameEndScreen with specified game and message properties.
@@ -50,11 +56,13 @@ public class GameEndScreen {
         // set properties required for game end screen
         BACKGROUND_IMAGE = new Image(GAME_PROPS.getProperty("backgroundImage.gameEnd"));
         SCORES_FILE = GAME_PROPS.getProperty("gameEnd.scoresFile");
+        SCORE_RECORDS_FILE = GAME_PROPS.getProperty("gameEnd.scoreRecordsFile");
+        SCORE_INDEX_FILE = GAME_PROPS.getProperty("gameEnd.scoreIndexFile");
         TITLE = MESSAGE_PROPS.getProperty("gameEnd.highestScores");
         SCORES_FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("gameEnd.scores.fontSize"));
-        SCORES_FONT = new Font("res/FSO8BITR.TTF", SCORES_FONT_SIZE);
+        SCORES_FONT = FontCache.getFont("res/FSO8BITR.TTF", SCORES_FONT_SIZE);
         STATUS_FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("gameEnd.status.fontSize"));
-        STATUS_FONT = new Font("res/FSO8BITR.TTF", STATUS_FONT_SIZE);
+        STATUS_FONT = FontCache.getFont("res/FSO8BITR.TTF", STATUS_FONT_SIZE);
         TITLE_X = (Window.getWidth() - SCORES_FONT.getWidth(TITLE)) / 2;
         TITLE_Y = Integer.parseInt(GAME_PROPS.getProperty("gameEnd.scores.y"));
 
@@ -63,28 +71,28 @@ public class GameEndScreen {
         WIN_X = (Window.getWidth() - SCORES_FONT.getWidth(WIN_TEXT)) / 2;
         LOSE_X = (Window.getWidth() - SCORES_FONT.getWidth(LOSE_TEXT)) / 2;
         STATUS_Y = Integer.parseInt(GAME_PROPS.getProperty("gameEnd.status.y"));
+
+        leaderboard = new Leaderboard(SCORES_SHOWN);
+        scoreXs = new double[SCORES_SHOWN];
     }
 
     /**
      * Renders the game end screen, displaying the final scores and the game status (win or lose).
-     * This method checks if the score needs to be written to the file, draws the background image,
-     * displays the title and the top five scores from the scoreboard, and indicates whether the player won or lost the game.
+     * This method checks if the score needs to be written to the score store, draws the background image,
+     * displays the title and the top five scores from the leaderboard, and indicates whether the player won or lost the game.
      */
     public void render() {
         if (!scoreWritten) {
-            writeToFile(playerName, finalScore);
+            writeToStore(playerName, finalScore);
+            centreScores();
         }
 
         BACKGROUND_IMAGE.draw(Window.getWidth()/2.0, Window.getHeight()/2.0);
         SCORES_FONT.drawString(TITLE, TITLE_X, TITLE_Y);
 
-        // generate the first five scores from the sorted scoreBoard array list
-        generateScoreBoard();
-        for (int i = 0; (i < scoreBoard.size()) && (i < 5); i++) {
-            String scoreLine = scoreBoard.get(i)[0];
-
-            double scoreX = (Window.getWidth() - SCORES_FONT.getWidth(scoreLine)) / 2;
-            SCORES_FONT.drawString(scoreLine, scoreX, 240 + (40 * i));
+        // draw the highest scores from the leaderboard
+        for (int i = 0; i < leaderboard.getSize(); i++) {
+            SCORES_FONT.drawString(leaderboard.getLine(i), scoreXs[i], 240 + (40 * i));
         }
 
         if (wonGame) {
@@ -95,37 +103,31 @@ public class GameEndScreen {
 
     }
 
-    // write game statistics into scores file
-    private void writeToFile(String playerName, double finalScore) {
-        String score = playerName + " - " + String.format("%.2f", finalScore);
-
-        IOUtils.writeScoreToFile(SCORES_FILE, score);
+    // write game statistics into the score store and read back the highest scores
+    private void writeToStore(String playerName, double finalScore) {
+        // scores from before the score store existed are imported when it is first created
+        boolean newStore = !new File(SCORE_RECORDS_FILE).exists();
+
+        try (ScoreStore store = new ScoreStore(SCORE_RECORDS_FILE, SCORE_INDEX_FILE)) {
+            if (newStore && new File(SCORES_FILE).exists()) {
+                store.importCsv(SCORES_FILE);
+            }
+            store.insert(playerName, finalScore, System.currentTimeMillis(), sessionFrames);
+
+            for (ScoreRecord record : store.getTop(SCORES_SHOWN)) {
+                leaderboard.insert(record.getLine(), record.getScore());
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
         scoreWritten = true;
     }
 
-    // generate a scoreBoard array list with scores ordered in descending order
-    private void generateScoreBoard() {
-        scoreBoard = new ArrayList<>();
-
-        String[][] score = IOUtils.readCommaSeparatedFile(SCORES_FILE);
-
-        for (String[] row : score) {
-            scoreBoard.add(row);
+    // work out where each score is drawn so that it is centred on the screen
+    private void centreScores() {
+        for (int i = 0; i < leaderboard.getSize(); i++) {
+            scoreXs[i] = (Window.getWidth() - SCORES_FONT.getWidth(leaderboard.getLine(i))) / 2;
         }
-
-        // sort the scoreBoard array list based on scores
-        scoreBoard.sort((score1, score2) -> {
-            // Extract and parse the scores from the string arrays
-            String scoreString1 = score1[0];
-            String scoreString2 = score2[0];
-
-            // extract scores to be compared
-            double scoreValue1 = Double.parseDouble(scoreString1.split(" - ")[1]);
-            double scoreValue2 = Double.parseDouble(scoreString2.split(" - ")[1]);
-
-            // sort in descending order
-            return Double.compare(scoreValue2, scoreValue1);
-        });
     }
 
     // setters
@@ -141,4 +143,8 @@ public class GameEndScreen {
         this.finalScore = finalScore;
     }
 
+    public void setSessionFrames(int sessionFrames) {
+        this.sessionFrames = sessionFrames;
+    }
+
 }
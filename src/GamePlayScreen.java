@@ -1,6 +1,8 @@
 import bagel.*;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Properties;
 
 /**
@@ -17,21 +19,21 @@ public class GamePlayScreen {
     private final String OBJECTS_FILE;
     private final String WEATHER_FILE;
 
-    private String[][] weatherInfo;
     private int weatherCount;
     private Weather[] weathers;
     private int currentWeatherIndex = 0;
-    private final Image SUNNY_BACKGROUND_IMAGE;
-    private final Image RAINY_BACKGROUND_IMAGE;
+    private final Sprite SUNNY_BACKGROUND_IMAGE;
+    private final Sprite RAINY_BACKGROUND_IMAGE;
     private final int BACKGROUND_SPEED;
     private final int WINDOW_WIDTH;
     private double backgroundX;
     private final int WINDOW_HEIGHT;
     private double background1Y;
     private double background2Y;
+    private double previousBackground1Y;
+    private double previousBackground2Y;
     private double MAX_Y;
 
-    private String[][] gameInfo;
     private ArrayList<Taxi> damagedTaxis;
     private Taxi taxi;
     private Driver driver;
@@ -43,33 +45,99 @@ public class GamePlayScreen {
     private int coinCount;
     private Star[] stars;
     private int starCount;
+
+    // the level is read as the road scrolls towards it, and left behind once the road has passed it
+    private final LevelStream level;
+    private final int LEVEL_LOOKAHEAD;
+    private final int LEVEL_RELEASE_DISTANCE;
+    private double levelScroll = 0;
+    private double releasedPassengerHealth = 1.0;
+    private boolean hasRained = false;
     private TripDetails tripDetails;
     private boolean hasPastTrip = false;
-    private int wasLastDriven;
+    private int tripsCompleted = 0;
+    private Passenger lastDrivenPassenger;
+    private int tripPanel = NO_TRIP_PANEL;
+    private boolean passengerHealthShown = false;
+    private double passengerHealth;
+    private static final int NO_TRIP_PANEL = 0;
+    private static final int CURRENT_TRIP_PANEL = 1;
+    private static final int LAST_TRIP_PANEL = 2;
 
     private ArrayList<OtherCar> otherCars;
     private final int OTHER_CAR_SPAWN_RATE = 200;
     private ArrayList<EnemyCar> enemyCars;
-    private ArrayList<FireBall> fireBalls;
     private final int ENEMY_CAR_SPAWN_RATE = 400;
     private final int MAX_TIMEOUT_DURATION = 200;
     private final int INVINCIBILITY_DURATION = 1000;
     private final int SEPARATION_DURATION = 190;
 
+    // objects this far outside the window are removed, and no kind of object grows past its cap
+    private final int DESPAWN_MARGIN;
+    private final int MAX_OTHER_CARS;
+    private final int MAX_ENEMY_CARS;
+    private final int MAX_DAMAGED_TAXIS;
+
+    private final RandomService random;
+
+    private final ObjectPool<OtherCar> otherCarPool;
+    private final ObjectPool<EnemyCar> enemyCarPool;
+    private final ObjectPool<Smoke> smokePool;
+    private final ObjectPool<Fire> firePool;
+    private final FireBallManager fireBalls;
+    private static final int MAX_FREE_CARS = 16;
+    private static final int MAX_FREE_FIRE_BALLS = 64;
+    private static final int MAX_FREE_EFFECTS = 32;
+    private static final int INITIAL_LEVEL_CAPACITY = 16;
+    private static final int INITIAL_WEATHER_CAPACITY = 16;
+
+    // the moving state of the cars and fireballs, laid out for loops over every one of them
+    private final EntityStore otherCarStore = new EntityStore();
+    private final EntityStore enemyCarStore = new EntityStore();
+    private final EntityStore fireBallStore;
+
+    private final CollisionRadii collisionRadii;
+    private final EventBus events;
+    private final SpatialHash collisionGrid;
+    private final TrafficLanes<OtherCar> otherCarLanes;
+    private final TrafficLanes<EnemyCar> enemyCarLanes;
+
+    // what the taxi and the driver overlap this tick
+    private final OverlapKernel overlapKernel = OverlapKernel.create();
+    private final OverlapMask taxiOtherCarHits = new OverlapMask(overlapKernel);
+    private final OverlapMask driverOtherCarHits = new OverlapMask(overlapKernel);
+    private final OverlapMask taxiEnemyCarHits = new OverlapMask(overlapKernel);
+    private final OverlapMask driverEnemyCarHits = new OverlapMask(overlapKernel);
+    private final OverlapMask taxiFireBallHits = new OverlapMask(overlapKernel);
+    private final OverlapMask driverFireBallHits = new OverlapMask(overlapKernel);
+
+    // every other overlapping pair this tick, found before any of them is applied
+    private final CollisionPairs otherCarPairs = new CollisionPairs(overlapKernel, this::detectOtherCarPairs);
+    private final CollisionPairs otherCarPassengerPairs = new CollisionPairs(overlapKernel, this::detectOtherCarPassengerPairs);
+    private final CollisionPairs otherCarEnemyCarPairs = new CollisionPairs(overlapKernel, this::detectOtherCarEnemyCarPairs);
+    private final CollisionPairs enemyCarPairs = new CollisionPairs(overlapKernel, this::detectEnemyCarPairs);
+    private final CollisionPairs enemyCarPassengerPairs = new CollisionPairs(overlapKernel, this::detectEnemyCarPassengerPairs);
+    private final CollisionPairs fireBallEnemyCarPairs = new CollisionPairs(overlapKernel, this::detectFireBallEnemyCarPairs);
+    private final CollisionPairs fireBallPassengerPairs = new CollisionPairs(overlapKernel, this::detectFireBallPassengerPairs);
+    private final CollisionPairs fireBallOtherCarPairs = new CollisionPairs(overlapKernel, this::detectFireBallOtherCarPairs);
+
     private final int FONT_SIZE;
-    private final Font FONT;
+    private Font font;
+
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final boolean PROFILE_ENABLED;
+    private final String PROFILE_FILE;
+    private final int PROFILE_FONT_SIZE;
+    private Font profileFont;
 
-    private String TOTAL_TITLE;
     private double totalPay = 0;
     private final int TOTAL_X;
     private final int TOTAL_Y;
 
-    private String TARGET_TEXT;
     private final double TARGET;
     private final double TARGET_X;
     private final double TARGET_Y;
 
-    private String framesText;
     private final int FRAMES_X;
     private final int FRAMES_Y;
     private final int MAX_FRAMES;
@@ -88,11 +156,30 @@ public class GamePlayScreen {
     private final int TAXI_HEALTH_Y;
     private final int HEALTH_MULTIPLIER = 100;
 
+    private final HudText taxiHealthText;
+    private final HudText driverHealthText;
+    private final HudText passengerHealthText;
+    private final HudText totalText;
+    private final HudText targetText;
+    private final HudText framesText;
+    private final HudText coinPowerText;
+
     private ArrayList<Effect> effects;
 
     private final int ROAD_LANE_1;
     private final int ROAD_LANE_3;
 
+    /**
+     * Constructs a GamePlayScreen with the specified game and message properties, for a
+     * session with a new random seed.
+     *
+     * @param gameProps   the properties related to the game configuration
+     * @param messageProps the properties related to game messages
+     */
+    public GamePlayScreen(Properties gameProps, Properties messageProps) {
+        this(gameProps, messageProps, new RandomService(RandomService.newSeed()));
+    }
+
     /**
      * Constructs a GamePlayScreen with the specified game and message properties.
      * Initializes background images, window dimensions, target values, health values,
@@ -100,15 +187,20 @@ public class GamePlayScreen {
      *
      * @param gameProps   the properties related to the game configuration
      * @param messageProps the properties related to game messages
+     * @param random the random numbers for the session, so that a seed replays the same session
      */
-    public GamePlayScreen(Properties gameProps, Properties messageProps) {
+    public GamePlayScreen(Properties gameProps, Properties messageProps, RandomService random) {
 
         this.GAME_PROPS = gameProps;
         this.MESSAGE_PROPS = messageProps;
+        this.random = random;
+        collisionRadii = new CollisionRadii(GAME_PROPS);
+        events = new EventBus(Integer.parseInt(GAME_PROPS.getProperty("gamePlay.events.capacity")));
+        events.subscribe(this::consumeEvents);
 
         // get properties for screen background
-        SUNNY_BACKGROUND_IMAGE = new Image(GAME_PROPS.getProperty("backgroundImage.sunny"));
-        RAINY_BACKGROUND_IMAGE = new Image(GAME_PROPS.getProperty("backgroundImage.raining"));
+        SUNNY_BACKGROUND_IMAGE = new Sprite(GAME_PROPS.getProperty("backgroundImage.sunny"));
+        RAINY_BACKGROUND_IMAGE = new Sprite(GAME_PROPS.getProperty("backgroundImage.raining"));
         WINDOW_WIDTH = Integer.parseInt(GAME_PROPS.getProperty("window.width"));
         backgroundX = (double) WINDOW_WIDTH / 2;
         WINDOW_HEIGHT = Integer.parseInt(GAME_PROPS.getProperty("window.height"));
@@ -117,17 +209,30 @@ public class GamePlayScreen {
         MAX_Y = WINDOW_HEIGHT * 1.5;
         BACKGROUND_SPEED = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY"));
         WEATHER_FILE = GAME_PROPS.getProperty("gamePlay.weatherFile");
-        weatherInfo = IOUtils.readCommaSeparatedFile(WEATHER_FILE);
-        processWeatherInfo(weatherInfo);
-
-        // read and process game information from csv file
         OBJECTS_FILE = GAME_PROPS.getProperty("gamePlay.objectsFile");
-        gameInfo = IOUtils.readCommaSeparatedFile(OBJECTS_FILE);
-        processGameInfo(gameInfo);
+        // a level compiled since its csv files last changed is read from the compiled file instead
+        CompiledLevel compiledLevel = CompiledLevel.openIfCurrent(
+                GAME_PROPS.getProperty("gamePlay.compiledLevelFile"), OBJECTS_FILE, WEATHER_FILE);
+        processWeatherInfo(compiledLevel);
+
+        // read the start of the level, the rest is read as the road scrolls
+        LEVEL_LOOKAHEAD = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.level.lookahead"));
+        LEVEL_RELEASE_DISTANCE = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.level.releaseDistance"));
+        level = compiledLevel != null ? new CompiledLevelStream(compiledLevel) : new CsvLevelStream(OBJECTS_FILE);
+        passengers = new Passenger[INITIAL_LEVEL_CAPACITY];
+        coins = new Coin[INITIAL_LEVEL_CAPACITY];
+        stars = new Star[INITIAL_LEVEL_CAPACITY];
+        loadLevel();
 
         // set other properties
         FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.info.fontSize"));
-        FONT = new Font("res/FSO8BITR.TTF", FONT_SIZE);
+        PROFILE_ENABLED = Boolean.parseBoolean(GAME_PROPS.getProperty("gamePlay.profile.enabled"));
+        PROFILE_FILE = GAME_PROPS.getProperty("gamePlay.profile.file");
+        PROFILE_FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.profile.fontSize"));
+        DESPAWN_MARGIN = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.despawnMargin"));
+        MAX_OTHER_CARS = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.maxOtherCars"));
+        MAX_ENEMY_CARS = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.maxEnemyCars"));
+        MAX_DAMAGED_TAXIS = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.maxDamagedTaxis"));
         TARGET = Double.parseDouble(GAME_PROPS.getProperty("gamePlay.target"));
         TARGET_X = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.target.x"));
         TARGET_Y = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.target.y"));
@@ -151,33 +256,84 @@ public class GamePlayScreen {
         TAXI_HEALTH_X = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.taxiHealth.x"));
         TAXI_HEALTH_Y = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.taxiHealth.y")) ;
 
+        // HUD text is only formatted again when its value changes
+        taxiHealthText = new HudText("TAXI ", 2, TAXI_HEALTH_X, TAXI_HEALTH_Y);
+        driverHealthText = new HudText("DRIVER ", 2, DRIVER_HEALTH_X, DRIVER_HEALTH_Y);
+        passengerHealthText = new HudText("PASSENGER ", 2, PASSENGER_HEALTH_X, PASSENGER_HEALTH_Y);
+        totalText = new HudText(MESSAGE_PROPS.getProperty("gamePlay.earnings"), 2, TOTAL_X, TOTAL_Y);
+        targetText = new HudText(MESSAGE_PROPS.getProperty("gamePlay.target"), 2, TARGET_X, TARGET_Y);
+        targetText.setValue(TARGET);
+        framesText = new HudText(MESSAGE_PROPS.getProperty("gamePlay.remFrames"), 0, FRAMES_X, FRAMES_Y);
+        coinPowerText = new HudText("", 0, COIN_POWER_X, COIN_POWER_Y);
+
         ROAD_LANE_1 = Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter1"));
         ROAD_LANE_3 = Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter3"));
 
+        // grid cells are as wide as two cars so that colliding cars are always in neighbouring cells
+        collisionGrid = new SpatialHash(2 * Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.radius")));
+        int roadLane2 = Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter2"));
+        otherCarLanes = new TrafficLanes<>(ROAD_LANE_1, roadLane2, ROAD_LANE_3);
+        enemyCarLanes = new TrafficLanes<>(ROAD_LANE_1, roadLane2, ROAD_LANE_3);
+
+        // pools for the entities that spawn and despawn throughout the game
+        otherCarPool = new ObjectPool<>(MAX_FREE_CARS, () -> new OtherCar(GAME_PROPS, random, otherCarStore), OtherCar::release);
+        fireBalls = new FireBallManager(GAME_PROPS, MAX_FREE_FIRE_BALLS);
+        fireBallStore = fireBalls.getStore();
+        enemyCarPool = new ObjectPool<>(MAX_FREE_CARS,
+                () -> new EnemyCar(GAME_PROPS, fireBalls, random, enemyCarStore), EnemyCar::release);
+        smokePool = new ObjectPool<>(MAX_FREE_EFFECTS, () -> new Smoke(GAME_PROPS, 0, 0), Smoke::release);
+        firePool = new ObjectPool<>(MAX_FREE_EFFECTS, () -> new Fire(GAME_PROPS, 0, 0), Fire::release);
+
         this.damagedTaxis = new ArrayList<>();
         this.otherCars = new ArrayList<>();
         this.enemyCars = new ArrayList<>();
-        this.fireBalls = new ArrayList<>();
         this.effects = new ArrayList<>();
     }
 
     /**
-     * Renders the gameplay elements on the screen, including the background, the taxi,
-     * driver, passengers, other cars, and effects. Handles the logic for generating
-     * random entities, managing collisions, and updating the status of passengers.
+     * Advances the gameplay by one frame and draws the result on the screen.
+     *
+     * @param input the input from the user, used to control the taxi and driver
+     */
+    public void render(InputSource input) {
+        update(input);
+        draw(1);
+    }
+
+    /**
+     * Advances the gameplay by one fixed length tick without drawing anything. Handles the logic for
+     * generating random entities, moving the taxi, driver, passengers, other cars and effects,
+     * managing collisions, and updating the status of passengers and trips.
+     * No window is needed, so this can be driven by a synthetic input source.
      *
      * @param input the input from the user, used to control the taxi and driver
      */
-    public void render(Input input) {
+    public void update(InputSource input) {
+        // bring in the level objects the road is about to reach, and drop the ones it has left behind
+        profiler.start(FrameProfiler.SPAWNING);
+        loadLevel();
+        releasePassedObjects();
+        profiler.stop(FrameProfiler.SPAWNING);
+
+        // keep the positions from before this tick for drawing between ticks
+        profiler.start(FrameProfiler.ENTITIES);
+        savePositions();
+        profiler.stop(FrameProfiler.ENTITIES);
+
         // create random entities
+        profiler.start(FrameProfiler.SPAWNING);
         generateRandomEntities();
+        profiler.stop(FrameProfiler.SPAWNING);
 
-        // draw moving background
-        renderWeather();
+        // move to the next weather period
+        profiler.start(FrameProfiler.WEATHER);
+        updateWeather();
+        profiler.stop(FrameProfiler.WEATHER);
 
-        // render taxi
-        taxi.render(input, driver.isInTaxi());
-        driver.render(input, taxi.getTaxiX());
+        // update taxi
+        profiler.start(FrameProfiler.ENTITIES);
+        taxi.update(input, driver.isInTaxi());
+        driver.update(input, taxi.getTaxiX());
         driver.enterTaxi(taxi.getTaxiX(), taxi.getTaxiY());
 
         // transfer driver invincibility to taxi
@@ -188,43 +344,210 @@ public class GamePlayScreen {
             }
         }
 
-        // render other cars
+        int scroll = roadScroll(input);
+        levelScroll += scroll;
+
+        // remove destroyed and off-screen other cars, then move the rest in one pass over their store
         for (OtherCar otherCar : otherCars) {
-            if (otherCar.getCarHealth() > 0) {
-                otherCar.render(input, driver.isInTaxi());
+            if (isGone(otherCar)) {
+                otherCar.despawn();
+                if (otherCar == taxi.getLastCollidedCar()) {
+                    // the taxi may still be separating from this car, so it must not be reused
+                    otherCar.release();
+                } else {
+                    otherCarPool.release(otherCar);
+                }
             }
         }
-        otherCars.removeIf(otherCar -> otherCar.getCarHealth() <= 0);
+        otherCars.removeIf(this::isGone);
+        otherCarStore.moveTraffic(SEPARATION_DURATION, scroll);
+        for (OtherCar otherCar : otherCars) {
+            otherCar.update();
+        }
+        otherCarLanes.update(otherCars);
 
-        // render enemy cars
+        // remove destroyed and off-screen enemy cars, let the rest shoot, then move the cars and fireballs
         for (EnemyCar enemyCar : enemyCars) {
-            if (enemyCar.getCarHealth() > 0) {
-                enemyCar.render(input, driver.isInTaxi());
+            if (isGone(enemyCar)) {
+                enemyCar.recycleFireBalls();
+                enemyCar.despawn();
+                if (enemyCar == taxi.getLastCollidedCar()) {
+                    // the taxi may still be separating from this car, so it must not be reused
+                    enemyCar.release();
+                } else {
+                    enemyCarPool.release(enemyCar);
+                }
             }
         }
-        enemyCars.removeIf(enemyCar -> enemyCar.getCarHealth() <= 0);
+        enemyCars.removeIf(this::isGone);
+        for (EnemyCar enemyCar : enemyCars) {
+            enemyCar.generateFireBall();
+        }
+        fireBalls.move(scroll);
+        fireBalls.removeSpent();
+        enemyCarStore.moveTraffic(SEPARATION_DURATION, scroll);
+        for (EnemyCar enemyCar : enemyCars) {
+            enemyCar.update();
+        }
+        enemyCarLanes.update(enemyCars);
 
         for (Effect effect: effects) {
             if (effect.getFrames() > 0) {
-                effect.render(input, driver.isInTaxi());
+                effect.update(input, driver.isInTaxi());
+            }
+            if (effect.getFrames() <= 0) {
+                recycleEffect(effect);
             }
         }
         effects.removeIf(effect -> effect.getFrames() <= 0);
 
-        // render damaged taxis
+        // update damaged taxis, dropping the wrecks that have scrolled out of sight
         for (Taxi damagedTaxi : damagedTaxis) {
-            damagedTaxi.render(input, driver.isInTaxi());
+            damagedTaxi.update(input, driver.isInTaxi());
+            if (isOffScreen(damagedTaxi.getTaxiY())) {
+                damagedTaxi.release();
+            }
         }
+        damagedTaxis.removeIf(damagedTaxi -> isOffScreen(damagedTaxi.getTaxiY()));
+        profiler.stop(FrameProfiler.ENTITIES);
 
         // handle collision logic
+        profiler.start(FrameProfiler.COLLISIONS);
         handleCollisions();
-        FONT.drawString("TAXI " + String.format("%.2f", taxi.getTaxiHealth() * HEALTH_MULTIPLIER), TAXI_HEALTH_X, TAXI_HEALTH_Y);
-        FONT.drawString("DRIVER " + String.format("%.2f", driver.getHumanHealth() * HEALTH_MULTIPLIER), DRIVER_HEALTH_X, DRIVER_HEALTH_Y);
+        profiler.stop(FrameProfiler.COLLISIONS);
+
+        // update passengers and trips
+        profiler.start(FrameProfiler.TRIPS);
+        updatePassengers(input);
+
+        // update total stats
+        totalDetails();
+        profiler.stop(FrameProfiler.TRIPS);
+
+        // update power ups
+        profiler.start(FrameProfiler.POWER_UPS);
+        updatePowerUps(input);
+        profiler.stop(FrameProfiler.POWER_UPS);
+
+        // the subsystems respond to the tick's events in one batch
+        events.dispatch();
+
+        profiler.setEntityCount(FrameProfiler.OTHER_CARS, otherCars.size());
+        profiler.setEntityCount(FrameProfiler.ENEMY_CARS, enemyCars.size());
+        profiler.setEntityCount(FrameProfiler.FIRE_BALLS, fireBalls.getCount());
+        profiler.setEntityCount(FrameProfiler.EFFECTS, effects.size());
+        profiler.setEntityCount(FrameProfiler.DAMAGED_TAXIS, damagedTaxis.size());
+    }
+
+    /**
+     * Draws the gameplay elements on the screen, including the background, the taxi,
+     * driver, passengers, other cars, effects, power ups and trip statistics, as they
+     * were left by the last call to update. Moving objects are drawn part of the way from
+     * where they were before the last tick to where they are now, so that motion stays
+     * smooth when frames and ticks do not line up.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        if (font == null) {
+            font = FontCache.getFont("res/FSO8BITR.TTF", FONT_SIZE);
+        }
+
+        // draw moving background
+        profiler.start(FrameProfiler.WEATHER);
+        renderWeather(alpha);
+        profiler.stop(FrameProfiler.WEATHER);
+
+        // draw taxi
+        profiler.start(FrameProfiler.ENTITIES);
+        taxi.draw(alpha);
+        driver.draw(alpha);
+
+        for (OtherCar otherCar : otherCars) {
+            otherCar.draw(alpha);
+        }
+
+        fireBalls.draw(alpha);
+        for (EnemyCar enemyCar : enemyCars) {
+            enemyCar.draw(alpha);
+        }
+
+        for (Effect effect: effects) {
+            effect.draw(alpha);
+        }
+
+        for (Taxi damagedTaxi : damagedTaxis) {
+            damagedTaxi.draw(alpha);
+        }
+
+        taxiHealthText.setValue(taxi.getTaxiHealth() * HEALTH_MULTIPLIER);
+        taxiHealthText.draw(font);
+        driverHealthText.setValue(driver.getHumanHealth() * HEALTH_MULTIPLIER);
+        driverHealthText.draw(font);
+        profiler.stop(FrameProfiler.ENTITIES);
+
+        // draw passengers
+        profiler.start(FrameProfiler.TRIPS);
+        for (int i = 0; i < passengerCount; i++) {
+            passengers[i].draw(alpha);
+        }
+
+        // print current trip or last trip details and passenger health
+        if (tripPanel == CURRENT_TRIP_PANEL) {
+            tripDetails.renderCurrent();
+        } else if (tripPanel == LAST_TRIP_PANEL) {
+            tripDetails.renderLast();
+        }
+        if (passengerHealthShown) {
+            passengerHealthText.setValue(passengerHealth * HEALTH_MULTIPLIER);
+            passengerHealthText.draw(font);
+        }
+
+        // draw total stats
+        totalText.setValue(totalPay);
+        totalText.draw(font);
+        targetText.draw(font);
+        framesText.setValue(framesRemaining);
+        framesText.draw(font);
+        profiler.stop(FrameProfiler.TRIPS);
+
+        // draw power ups
+        profiler.start(FrameProfiler.POWER_UPS);
+        renderPowerUps(alpha);
+        profiler.stop(FrameProfiler.POWER_UPS);
+
+        if (profiler.isOverlayShown()) {
+            if (profileFont == null) {
+                profileFont = FontCache.getFont("res/FSO8BITR.TTF", PROFILE_FONT_SIZE);
+            }
+            profiler.drawOverlay(profileFont);
+        }
+    }
+
+    /**
+     * Writes the frame timings of the session so far to the file set by gamePlay.profile.file,
+     * for working out which part of the game a slow frame was spent in. Nothing is written
+     * unless gamePlay.profile.enabled is true.
+     */
+    public void writeProfile() {
+        if (!PROFILE_ENABLED) {
+            return;
+        }
+        try {
+            profiler.writeCsv(PROFILE_FILE);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // handle passenger pick up, drop off and trip earnings
+    private void updatePassengers(InputSource input) {
+        double minPassengerHealth = releasedPassengerHealth;
+        tripPanel = NO_TRIP_PANEL;
+        passengerHealthShown = false;
 
-        double minPassengerHealth = 1.0;
-        // render passengers
         for (int i = 0; i < passengerCount; i++) {
-            passengers[i].render(input, taxi.getTaxiX(), driver.isInTaxi());
+            passengers[i].update(input, taxi.getTaxiX(), driver.isInTaxi());
 
             if (passengers[i].getHumanHealth() < minPassengerHealth) {
                 minPassengerHealth = passengers[i].getHumanHealth();
@@ -248,35 +571,37 @@ public class GamePlayScreen {
                 taxi.setTaxiOccupied(passengers[i].isInTaxi());
             }
 
-            // set values for current trip
+            // start a trip when a passenger is picked up, then update its values while it is ongoing
             if (passengers[i].isInTaxi() ||
                     (!passengers[i].isInTaxi() && passengers[i].isTripOngoing() && !passengers[i].isDriven())) {
-                tripDetails = new TripDetails(MESSAGE_PROPS, GAME_PROPS, passengers[i], taxi.getTaxiX(),
-                        taxi.getTaxiY(), passengers[i].getFlagX(), passengers[i].getFlagY());
+                if (tripDetails == null || tripDetails.getPassenger() != passengers[i]) {
+                    tripDetails = new TripDetails(MESSAGE_PROPS, GAME_PROPS, passengers[i]);
+                }
+                tripDetails.update(taxi.getTaxiX(), taxi.getTaxiY(), passengers[i].getFlagX(), passengers[i].getFlagY());
             }
             /*
-            print current trip or last trip details depending on occupancy status of taxi and
-            render current passenger health or minimum passenger health
+            show current trip or last trip details depending on occupancy status of taxi and
+            show current passenger health or minimum passenger health
             */
             if (passengers[i].isInTaxi() ||
                     (!passengers[i].isInTaxi() && passengers[i].isTripOngoing() && !passengers[i].isDriven())) {
-                tripDetails.renderCurrent();
+                tripPanel = CURRENT_TRIP_PANEL;
                 hasPastTrip = true;
-                wasLastDriven = i;
+                lastDrivenPassenger = passengers[i];
 
-                FONT.drawString("PASSENGER " + String.format("%.2f", passengers[i].getHumanHealth() * HEALTH_MULTIPLIER),
-                        PASSENGER_HEALTH_X, PASSENGER_HEALTH_Y);
-            } else if (!passengers[i].isInTaxi() && hasPastTrip && (i == wasLastDriven) && !taxi.getTaxiOccupied()) {
-                tripDetails.renderLast();
+                passengerHealthShown = true;
+                passengerHealth = passengers[i].getHumanHealth();
+            } else if (!passengers[i].isInTaxi() && hasPastTrip && (passengers[i] == lastDrivenPassenger) && !taxi.getTaxiOccupied()) {
+                tripPanel = LAST_TRIP_PANEL;
 
                 // all trip earnings to total pay
                 if (!tripDetails.isEarningsCalculated()) {
-                    totalPay += tripDetails.getFinalExp();
+                    events.publishTripCompleted(++tripsCompleted, tripDetails.getFinalExp());
                     tripDetails.setEarningsCalculated(true);
                 }
 
-                FONT.drawString("PASSENGER " + String.format("%.2f", minPassengerHealth * HEALTH_MULTIPLIER),
-                        PASSENGER_HEALTH_X, PASSENGER_HEALTH_Y);
+                passengerHealthShown = true;
+                passengerHealth = minPassengerHealth;
             }
 
             // update passenger priority when coin is collected or taxi is in coin power form
@@ -286,32 +611,31 @@ public class GamePlayScreen {
                 passengers[i].setPoweredUp(true);
             }
         }
-
-        // render total stats
-        totalDetails();
-        FONT.drawString(TOTAL_TITLE + String.format("%.2f", totalPay), TOTAL_X, TOTAL_Y);
-        FONT.drawString(TARGET_TEXT + String.format("%.2f", TARGET), TARGET_X, TARGET_Y);
-        FONT.drawString( framesText + framesRemaining, FRAMES_X, FRAMES_Y);
-
-        //render power ups
-        renderPowerUps(input);
-
     }
 
     // handle all random logic
     private void generateRandomEntities() {
-        if (MiscUtils.canSpawn(OTHER_CAR_SPAWN_RATE)) {
-            // Create a new OtherCar instance and add it to the list
-            OtherCar newOtherCar = new OtherCar(GAME_PROPS);
+        // the spawn roll is made even at the cap, so that the cap does not shift later rolls
+        if (random.getTraffic().canSpawn(OTHER_CAR_SPAWN_RATE) && otherCars.size() < MAX_OTHER_CARS) {
+            // Take an OtherCar from the pool and add it to the list
+            OtherCar newOtherCar = otherCarPool.acquire();
+            newOtherCar.reset();
             otherCars.add(newOtherCar);
+            otherCarLanes.add(newOtherCar);
         }
-        if (MiscUtils.canSpawn(ENEMY_CAR_SPAWN_RATE)) {
-            // Create a new EnemyCar instance and add it to the list
-            EnemyCar newEnemyCar = new EnemyCar(GAME_PROPS);
+        if (random.getTraffic().canSpawn(ENEMY_CAR_SPAWN_RATE) && enemyCars.size() < MAX_ENEMY_CARS) {
+            // Take an EnemyCar from the pool and add it to the list
+            EnemyCar newEnemyCar = enemyCarPool.acquire();
+            newEnemyCar.reset();
             enemyCars.add(newEnemyCar);
+            enemyCarLanes.add(newEnemyCar);
         }
         if (taxi.getTaxiHealth() <= 0) {
             taxi.setDamaged(true);
+            if (damagedTaxis.size() >= MAX_DAMAGED_TAXIS) {
+                // make room by dropping the oldest wreck
+                damagedTaxis.remove(0).release();
+            }
             damagedTaxis.add(taxi);
             if (driver.isInTaxi()) {
                 driver.setCollisionTimeout(MAX_TIMEOUT_DURATION);
@@ -319,67 +643,141 @@ public class GamePlayScreen {
                 driver.setInTaxi(false);
             }
 
-            double XPos = MiscUtils.selectAValue(ROAD_LANE_1, ROAD_LANE_3);
-            double YPos = MiscUtils.getRandomInt(OTHER_CAR_SPAWN_RATE, ENEMY_CAR_SPAWN_RATE);
+            double XPos = random.getSpawnPositions().selectAValue(ROAD_LANE_1, ROAD_LANE_3);
+            double YPos = random.getSpawnPositions().getRandomInt(OTHER_CAR_SPAWN_RATE, ENEMY_CAR_SPAWN_RATE);
 
             taxi = new Taxi(GAME_PROPS, XPos, YPos);
         }
     }
 
-    // handle background weather rendering
-    private void renderWeather() {
+    // add traffic spread evenly along the visible road, for benchmarks of the collision passes
+    void addTraffic(int otherCarCount, int enemyCarCount) {
+        for (int i = 0; i < otherCarCount; i++) {
+            OtherCar newOtherCar = otherCarPool.acquire();
+            newOtherCar.reset();
+            newOtherCar.setYPos(-50 + (WINDOW_HEIGHT + 100) * (i + 0.5) / otherCarCount);
+            otherCars.add(newOtherCar);
+            otherCarLanes.add(newOtherCar);
+        }
+        for (int i = 0; i < enemyCarCount; i++) {
+            EnemyCar newEnemyCar = enemyCarPool.acquire();
+            newEnemyCar.reset();
+            newEnemyCar.setYPos(-50 + (WINDOW_HEIGHT + 100) * (i + 0.5) / enemyCarCount);
+            enemyCars.add(newEnemyCar);
+            enemyCarLanes.add(newEnemyCar);
+        }
+        otherCarLanes.update(otherCars);
+        enemyCarLanes.update(enemyCars);
+    }
+
+    // how far the road scrolls down the screen this tick, which moves everything on it
+    private int roadScroll(InputSource input) {
+        if (input.isDown(Keys.UP)) {
+            return driver.isInTaxi() ? BACKGROUND_SPEED : 1;
+        } else if (input.isDown(Keys.DOWN) && !driver.isInTaxi()) {
+            return -1;
+        }
+        return 0;
+    }
+
+    // handle weather changes
+    private void updateWeather() {
         if (MAX_FRAMES - framesRemaining > weathers[currentWeatherIndex].getEnd()) {
             currentWeatherIndex++;
         }
 
+        if (weathers[currentWeatherIndex].getWeather().equals("RAINING")) {
+            hasRained = true;
+            for (int i = 0; i < passengerCount; i++) {
+                if (passengers[i].getHAS_UMBRELLA() == 0) {
+                    passengers[i].setPriority(1);
+                }
+            }
+        }
+    }
+
+    // handle background weather rendering
+    private void renderWeather(double alpha) {
         String currentWeather = weathers[currentWeatherIndex].getWeather();
+        double drawBackground1Y = interpolateBackground(previousBackground1Y, background1Y, alpha);
+        double drawBackground2Y = interpolateBackground(previousBackground2Y, background2Y, alpha);
 
         if(currentWeather.equals("SUNNY")) {
-            SUNNY_BACKGROUND_IMAGE.draw(backgroundX, background1Y);
-            SUNNY_BACKGROUND_IMAGE.draw(backgroundX, background2Y);
+            SUNNY_BACKGROUND_IMAGE.draw(backgroundX, drawBackground1Y);
+            SUNNY_BACKGROUND_IMAGE.draw(backgroundX, drawBackground2Y);
         } else if (currentWeather.equals("RAINING")) {
-            RAINY_BACKGROUND_IMAGE.draw(backgroundX, background1Y);
-            RAINY_BACKGROUND_IMAGE.draw(backgroundX, background2Y);
+            RAINY_BACKGROUND_IMAGE.draw(backgroundX, drawBackground1Y);
+            RAINY_BACKGROUND_IMAGE.draw(backgroundX, drawBackground2Y);
+        }
+    }
 
-            for (Passenger passenger: passengers) {
-                if (passenger.getHAS_UMBRELLA() == 0) {
-                    passenger.setPriority(1);
-                }
-            }
+    // blend a background position between ticks, unless it has just wrapped back to the top
+    private double interpolateBackground(double previousY, double currentY, double alpha) {
+        if (Math.abs(currentY - previousY) > WINDOW_HEIGHT / 2.0) {
+            return currentY;
+        }
+        return MiscUtils.interpolate(previousY, currentY, alpha);
+    }
+
+    // remember where everything is before the tick moves it
+    private void savePositions() {
+        previousBackground1Y = background1Y;
+        previousBackground2Y = background2Y;
+
+        taxi.savePosition();
+        driver.savePosition();
+        for (int i = 0; i < passengerCount; i++) {
+            passengers[i].savePosition();
+        }
+        otherCarStore.savePositions();
+        enemyCarStore.savePositions();
+        fireBallStore.savePositions();
+        for (Effect effect : effects) {
+            effect.savePosition();
+        }
+        for (Taxi damagedTaxi : damagedTaxis) {
+            damagedTaxi.savePosition();
+        }
+        for (int j = 0; j < coinCount; j++) {
+            coins[j].savePosition();
+        }
+        for (int k = 0; k < starCount; k++) {
+            stars[k].savePosition();
         }
     }
 
     // handle all power up logic
-    private void renderPowerUps(Input input) {
-        // render coins and check for collisions
+    private void updatePowerUps(InputSource input) {
+        // move coins and check for collisions
         for (int j = 0; j < coinCount; j++) {
-            coins[j].render(input, driver.isInTaxi());
+            coins[j].update(input, driver.isInTaxi());
 
             if (!coins[j].isHasCollided()) {
+                int collector = CollisionRadii.TAXI;
                 coins[j].checkCollision(taxi.getTaxiX(), taxi.getTaxiY());
-                if (!driver.isInTaxi()) {
+                if (!coins[j].isHasCollided() && !driver.isInTaxi()) {
+                    collector = CollisionRadii.DRIVER;
                     coins[j].checkCollision(driver.getXPos(), driver.getYPos());
                 }
                 if (coins[j].isHasCollided()) {
                     coinPower = 0;
+                    events.publishPowerUpCollected(CollisionRadii.COIN, collector, coins[j].getXPos(), coins[j].getYPos());
                 }
             }
         }
         if (coinPower < MAX_COIN_POWER) {
             coinPower += 1;
         }
-        if (coinPower < MAX_COIN_POWER && driver.isInTaxi()) {
-            FONT.drawString(String.valueOf(coinPower), COIN_POWER_X, COIN_POWER_Y);
-        }
 
-        // render Invincible power and check for collisions
+        // move Invincible power and check for collisions
         for (int k = 0; k < starCount; k++) {
-            stars[k].render(input, driver.isInTaxi());
+            stars[k].update(input, driver.isInTaxi());
 
             if (!stars[k].isHasCollided()) {
                 if (driver.isInTaxi()) {
                     stars[k].checkCollision(taxi.getTaxiX(), taxi.getTaxiY());
                     if (stars[k].isHasCollided()) {
+                        events.publishPowerUpCollected(CollisionRadii.STAR, CollisionRadii.TAXI, stars[k].getXPos(), stars[k].getYPos());
                         taxi.setCollisionTimeout(INVINCIBILITY_DURATION);
                         taxi.setLastCollidedCar(null);
                         taxi.setHitFireBall(false);
@@ -387,6 +785,7 @@ public class GamePlayScreen {
                 } else {
                     stars[k].checkCollision(driver.getXPos(), driver.getYPos());
                     if (stars[k].isHasCollided()) {
+                        events.publishPowerUpCollected(CollisionRadii.STAR, CollisionRadii.DRIVER, stars[k].getXPos(), stars[k].getYPos());
                         driver.setCollisionTimeout(INVINCIBILITY_DURATION);
                         driver.setInvincible(true);
                     }
@@ -395,10 +794,33 @@ public class GamePlayScreen {
         }
     }
 
-    // handles collision logic
-    private void handleCollisions() {
+    // handle all power up rendering
+    private void renderPowerUps(double alpha) {
+        for (int j = 0; j < coinCount; j++) {
+            coins[j].draw(alpha);
+        }
+        if (coinPower < MAX_COIN_POWER && driver.isInTaxi()) {
+            coinPowerText.setValue(coinPower);
+            coinPowerText.draw(font);
+        }
+
+        for (int k = 0; k < starCount; k++) {
+            stars[k].draw(alpha);
+        }
+    }
+
+    // handles collision logic, package-private so that the benchmarks can run the collision passes alone
+    void handleCollisions() {
+        buildCollisionGrid();
+
+        // nothing moves until every collision has been applied, so every overlap can be found first
+        detectCollisions();
+
+        // then the damage, timeouts and effects are applied in list order, on this thread
         handleOtherCarCollisions();
 
+        handleFireBallCollisions();
+
         handleEnemyCarCollisions();
 
         // handle taxi separation
@@ -419,9 +841,137 @@ public class GamePlayScreen {
             driver.setCollisionTimeout(driver.getCollisionTimeout() - 1);
         }
 
-        for (Passenger passenger: passengers) {
-            if (passenger.getCollisionTimeout() > 0) {
-                passenger.setCollisionTimeout(passenger.getCollisionTimeout() - 1);
+        for (int i = 0; i < passengerCount; i++) {
+            if (passengers[i].getCollisionTimeout() > 0) {
+                passengers[i].setCollisionTimeout(passengers[i].getCollisionTimeout() - 1);
+            }
+        }
+    }
+
+    // whether a car is destroyed or far enough outside the window to be removed
+    private boolean isGone(Car car) {
+        return car.getCarHealth() <= 0 || isOffScreen(car.getYPos());
+    }
+
+    // whether a Y position is more than the despawn margin above or below the window
+    private boolean isOffScreen(double YPos) {
+        return YPos < -DESPAWN_MARGIN || YPos > WINDOW_HEIGHT + DESPAWN_MARGIN;
+    }
+
+    // register passengers in the collision grid, cars are found through their lanes instead
+    private void buildCollisionGrid() {
+        collisionGrid.clear();
+        for (int i = 0; i < passengerCount; i++) {
+            Passenger passenger = passengers[i];
+            collisionGrid.insert(SpatialHash.PASSENGER, i, passenger.getXPos(), passenger.getYPos(), passenger.getHUMAN_RADIUS());
+        }
+    }
+
+    // find every overlapping pair from the positions alone, in parallel when the road is busy
+    private void detectCollisions() {
+        taxiOtherCarHits.testStore(taxi.getTaxiX(), taxi.getTaxiY(), taxi.getTAXI_RADIUS(), otherCarStore);
+        driverOtherCarHits.testStore(driver.getXPos(), driver.getYPos(), driver.getHUMAN_RADIUS(), otherCarStore);
+        taxiEnemyCarHits.testStore(taxi.getTaxiX(), taxi.getTaxiY(), taxi.getTAXI_RADIUS(), enemyCarStore);
+        driverEnemyCarHits.testStore(driver.getXPos(), driver.getYPos(), driver.getHUMAN_RADIUS(), enemyCarStore);
+        taxiFireBallHits.testStore(taxi.getTaxiX(), taxi.getTaxiY(), taxi.getTAXI_RADIUS(), fireBallStore);
+        driverFireBallHits.testStore(driver.getXPos(), driver.getYPos(), driver.getHUMAN_RADIUS(), fireBallStore);
+
+        otherCarPairs.detect(otherCars.size());
+        otherCarPassengerPairs.detect(otherCars.size());
+        otherCarEnemyCarPairs.detect(otherCars.size());
+        enemyCarPairs.detect(enemyCars.size());
+        enemyCarPassengerPairs.detect(enemyCars.size());
+        fireBallEnemyCarPairs.detect(fireBallStore.getSize());
+        fireBallPassengerPairs.detect(fireBallStore.getSize());
+        fireBallOtherCarPairs.detect(fireBallStore.getSize());
+    }
+
+    // find the other cars after an other car in the list that it overlaps
+    private void detectOtherCarPairs(int i, IndexList candidates, OverlapMask mask, IndexList hits) {
+        OtherCar otherCar = otherCars.get(i);
+        otherCarLanes.query(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS(), candidates);
+        detectCars(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS(), otherCars, i, candidates, mask, hits);
+    }
+
+    // find the passengers an other car overlaps
+    private void detectOtherCarPassengerPairs(int i, IndexList candidates, OverlapMask mask, IndexList hits) {
+        OtherCar otherCar = otherCars.get(i);
+        detectPassengers(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS(), candidates, mask, hits);
+    }
+
+    // find the enemy cars an other car overlaps
+    private void detectOtherCarEnemyCarPairs(int i, IndexList candidates, OverlapMask mask, IndexList hits) {
+        OtherCar otherCar = otherCars.get(i);
+        enemyCarLanes.query(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS(), candidates);
+        detectCars(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS(), enemyCars, -1, candidates, mask, hits);
+    }
+
+    // find the enemy cars after an enemy car in the list that it overlaps
+    private void detectEnemyCarPairs(int i, IndexList candidates, OverlapMask mask, IndexList hits) {
+        EnemyCar enemyCar = enemyCars.get(i);
+        enemyCarLanes.query(enemyCar.getXPos(), enemyCar.getYPos(), enemyCar.getCAR_RADIUS(), candidates);
+        detectCars(enemyCar.getXPos(), enemyCar.getYPos(), enemyCar.getCAR_RADIUS(), enemyCars, i, candidates, mask, hits);
+    }
+
+    // find the passengers an enemy car overlaps
+    private void detectEnemyCarPassengerPairs(int i, IndexList candidates, OverlapMask mask, IndexList hits) {
+        EnemyCar enemyCar = enemyCars.get(i);
+        detectPassengers(enemyCar.getXPos(), enemyCar.getYPos(), enemyCar.getCAR_RADIUS(), candidates, mask, hits);
+    }
+
+    // find the enemy cars the fireball in a slot overlaps, including the car that shot it
+    private void detectFireBallEnemyCarPairs(int slot, IndexList candidates, OverlapMask mask, IndexList hits) {
+        double XPos = fireBallStore.getXs()[slot];
+        double YPos = fireBallStore.getYs()[slot];
+        double radius = fireBallStore.getRadii()[slot];
+        enemyCarLanes.query(XPos, YPos, radius, candidates);
+        detectCars(XPos, YPos, radius, enemyCars, -1, candidates, mask, hits);
+    }
+
+    // find the passengers the fireball in a slot overlaps
+    private void detectFireBallPassengerPairs(int slot, IndexList candidates, OverlapMask mask, IndexList hits) {
+        detectPassengers(fireBallStore.getXs()[slot], fireBallStore.getYs()[slot], fireBallStore.getRadii()[slot],
+                candidates, mask, hits);
+    }
+
+    // find the other cars the fireball in a slot overlaps
+    private void detectFireBallOtherCarPairs(int slot, IndexList candidates, OverlapMask mask, IndexList hits) {
+        double XPos = fireBallStore.getXs()[slot];
+        double YPos = fireBallStore.getYs()[slot];
+        double radius = fireBallStore.getRadii()[slot];
+        otherCarLanes.query(XPos, YPos, radius, candidates);
+        detectCars(XPos, YPos, radius, otherCars, -1, candidates, mask, hits);
+    }
+
+    // add the candidate cars after the given list index that a circle overlaps to the hits, in list order
+    private static void detectCars(double XPos, double YPos, double radius, ArrayList<? extends Car> cars, int after,
+                                   IndexList candidates, OverlapMask mask, IndexList hits) {
+        mask.clearCandidates();
+        for (int k = 0; k < candidates.size(); k++) {
+            Car car = cars.get(candidates.get(k));
+            mask.addCandidate(car.getXPos(), car.getYPos(), car.getCAR_RADIUS());
+        }
+        mask.testCandidates(XPos, YPos, radius);
+        for (int k = 0; k < candidates.size(); k++) {
+            if (candidates.get(k) > after && mask.isHit(k)) {
+                hits.add(candidates.get(k));
+            }
+        }
+    }
+
+    // add the passengers that a circle overlaps to the hits, in array order
+    private void detectPassengers(double XPos, double YPos, double radius, IndexList candidates,
+                                  OverlapMask mask, IndexList hits) {
+        collisionGrid.query(SpatialHash.PASSENGER, XPos, YPos, radius, candidates);
+        mask.clearCandidates();
+        for (int k = 0; k < candidates.size(); k++) {
+            Passenger passenger = passengers[candidates.get(k)];
+            mask.addCandidate(passenger.getXPos(), passenger.getYPos(), passenger.getHUMAN_RADIUS());
+        }
+        mask.testCandidates(XPos, YPos, radius);
+        for (int k = 0; k < candidates.size(); k++) {
+            if (mask.isHit(k)) {
+                hits.add(candidates.get(k));
             }
         }
     }
@@ -430,33 +980,35 @@ public class GamePlayScreen {
     private void handleOtherCarCollisions() {
         for (int i = 0; i < otherCars.size(); i++) {
             OtherCar otherCar = otherCars.get(i);
+            int slot = otherCarStore.getSlot(otherCar.getHandle());
 
             // Check collision with the Taxi
-            if (taxi.hasCollided(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS()) && taxi.getCollisionTimeout() == 0) {
+            if (taxiOtherCarHits.isHit(slot) && taxi.getCollisionTimeout() == 0) {
                 taxi.setTaxiHealth(otherCar.getCAR_DAMAGE());
                 taxi.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                 taxi.setLastCollidedCar(otherCar);
+                reportCollision(CollisionRadii.TAXI, CollisionRadii.OTHER_CAR, otherCar.getCAR_DAMAGE(), taxi.getTaxiX(), taxi.getTaxiY());
 
-                addEffect(taxi.getTaxiHealth(), taxi.getTaxiX(), taxi.getTaxiY());
+                events.publishEffectSpawn(taxi.getTaxiHealth(), taxi.getTaxiX(), taxi.getTaxiY());
             }
 
-            if (otherCar.hasCollided(taxi.getTaxiX(), taxi.getTaxiY(), taxi.getTAXI_RADIUS())
-                    && otherCar.getCollisionTimeout() == 0) {
+            if (taxiOtherCarHits.isHit(slot) && otherCar.getCollisionTimeout() == 0) {
                 otherCar.setCarHealth(otherCar.getCarHealth() - taxi.getTAXI_DAMAGE());
                 otherCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                reportCollision(CollisionRadii.OTHER_CAR, CollisionRadii.TAXI, taxi.getTAXI_DAMAGE(), otherCar.getXPos(), otherCar.getYPos());
 
-                addEffect(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
+                events.publishEffectSpawn(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
             }
 
-            // Check collisions with other OtherCar instances
-            for (int j = i + 1; j < otherCars.size(); j++) {
-                OtherCar otherCar2 = otherCars.get(j);
+            // Check collisions with OtherCar instances nearby in the same lane
+            for (int k = 0; k < otherCarPairs.getHitCount(i); k++) {
+                OtherCar otherCar2 = otherCars.get(otherCarPairs.getHit(i, k));
 
-                if (otherCar.hasCollided(otherCar2.getXPos(), otherCar2.getYPos(), otherCar2.getCAR_RADIUS())
-                        && otherCar.getCollisionTimeout() == 0) {
+                if (otherCar.getCollisionTimeout() == 0) {
                     otherCar.setCarHealth(otherCar.getCarHealth() - otherCar2.getCAR_DAMAGE());
                     otherCar2.setCarHealth(otherCar2.getCarHealth() - otherCar.getCAR_DAMAGE());
-
+                    reportCollision(CollisionRadii.OTHER_CAR, CollisionRadii.OTHER_CAR, otherCar2.getCAR_DAMAGE(), otherCar.getXPos(), otherCar.getYPos());
+                    reportCollision(CollisionRadii.OTHER_CAR, CollisionRadii.OTHER_CAR, otherCar.getCAR_DAMAGE(), otherCar2.getXPos(), otherCar2.getYPos());
 
                     otherCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                     otherCar2.setCollisionTimeout(MAX_TIMEOUT_DURATION);
@@ -468,8 +1020,8 @@ public class GamePlayScreen {
                         otherCar2.setMoveForward(true);
                     }
 
-                    addEffect(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
-                    addEffect(otherCar2.getCarHealth(), otherCar2.getXPos(), otherCar2.getYPos());
+                    events.publishEffectSpawn(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
+                    events.publishEffectSpawn(otherCar2.getCarHealth(), otherCar2.getXPos(), otherCar2.getYPos());
                 }
             }
 
@@ -477,10 +1029,11 @@ public class GamePlayScreen {
                 otherCar.setCollisionTimeout(otherCar.getCollisionTimeout() - 1);
             }
 
-            if (driver.hasCollided(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS()) && driver.getCollisionTimeout() == 0
+            if (driverOtherCarHits.isHit(slot) && driver.getCollisionTimeout() == 0
                     && !driver.isInTaxi()) {
                 driver.setHumanHealth(driver.getHumanHealth() - otherCar.getCAR_DAMAGE());
                 driver.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                reportCollision(CollisionRadii.DRIVER, CollisionRadii.OTHER_CAR, otherCar.getCAR_DAMAGE(), driver.getXPos(), driver.getYPos());
                 if (otherCar.getCollisionTimeout() == 0) {
                     otherCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                 }
@@ -493,11 +1046,13 @@ public class GamePlayScreen {
                 }
             }
 
-            for (Passenger passenger: passengers) {
-                if (passenger.hasCollided(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS()) && passenger.getCollisionTimeout() == 0
+            for (int k = 0; k < otherCarPassengerPairs.getHitCount(i); k++) {
+                Passenger passenger = passengers[otherCarPassengerPairs.getHit(i, k)];
+                if (passenger.getCollisionTimeout() == 0
                         && passenger.isTripOngoing() && !passenger.isInTaxi()) {
                     passenger.setHumanHealth(passenger.getHumanHealth() - otherCar.getCAR_DAMAGE());
                     passenger.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                    reportCollision(CollisionRadii.PASSENGER, CollisionRadii.OTHER_CAR, otherCar.getCAR_DAMAGE(), passenger.getXPos(), passenger.getYPos());
                     if (otherCar.getCollisionTimeout() == 0) {
                         otherCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                     }
@@ -511,19 +1066,21 @@ public class GamePlayScreen {
                 }
             }
 
-            for (EnemyCar enemyCar: enemyCars) {
-                if (enemyCar.hasCollided(otherCar.getXPos(), otherCar.getYPos(), otherCar.getCAR_RADIUS())
-                        && enemyCar.getCollisionTimeout() == 0) {
+            for (int k = 0; k < otherCarEnemyCarPairs.getHitCount(i); k++) {
+                EnemyCar enemyCar = enemyCars.get(otherCarEnemyCarPairs.getHit(i, k));
+                if (enemyCar.getCollisionTimeout() == 0) {
                     enemyCar.setCarHealth(enemyCar.getCarHealth() - otherCar.getCAR_DAMAGE());
                     enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                    reportCollision(CollisionRadii.ENEMY_CAR, CollisionRadii.OTHER_CAR, otherCar.getCAR_DAMAGE(), enemyCar.getXPos(), enemyCar.getYPos());
 
-                    addEffect(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
+                    events.publishEffectSpawn(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
 
                     if (otherCar.getCollisionTimeout() == 0) {
                         otherCar.setCarHealth(otherCar.getCarHealth() - enemyCar.getCAR_DAMAGE());
                         otherCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                        reportCollision(CollisionRadii.OTHER_CAR, CollisionRadii.ENEMY_CAR, enemyCar.getCAR_DAMAGE(), otherCar.getXPos(), otherCar.getYPos());
 
-                        addEffect(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
+                        events.publishEffectSpawn(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
                     }
                     if (otherCar.getYPos() > enemyCar.getYPos()) {
                         enemyCar.setMoveForward(true);
@@ -541,42 +1098,35 @@ public class GamePlayScreen {
     private void handleEnemyCarCollisions() {
         for (int i = 0; i < enemyCars.size(); i++) {
             EnemyCar enemyCar = enemyCars.get(i);
+            int slot = enemyCarStore.getSlot(enemyCar.getHandle());
 
-            // handle fireball rendering with current instance of enemy car
-            for (FireBall fireBall: enemyCar.getFireBalls()) {
-                if (!fireBalls.contains(fireBall)) {
-                    fireBalls.add(fireBall);
-                }
-            }
-            fireBalls.removeIf(FireBall::HasCollided);
-
-            handleFireballCollisions(enemyCar);
-
-            if (taxi.hasCollided(enemyCar.getXPos(), enemyCar.getYPos(), enemyCar.getCAR_RADIUS()) && taxi.getCollisionTimeout() == 0) {
+            if (taxiEnemyCarHits.isHit(slot) && taxi.getCollisionTimeout() == 0) {
                 taxi.setTaxiHealth(enemyCar.getCAR_DAMAGE());
                 taxi.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                 taxi.setLastCollidedCar(enemyCar);
+                reportCollision(CollisionRadii.TAXI, CollisionRadii.ENEMY_CAR, enemyCar.getCAR_DAMAGE(), taxi.getTaxiX(), taxi.getTaxiY());
 
-                addEffect(taxi.getTaxiHealth(), taxi.getTaxiX(), taxi.getTaxiY());
+                events.publishEffectSpawn(taxi.getTaxiHealth(), taxi.getTaxiX(), taxi.getTaxiY());
             }
 
-            if (enemyCar.hasCollided(taxi.getTaxiX(), taxi.getTaxiY(), taxi.getTAXI_RADIUS())
-                    && enemyCar.getCollisionTimeout() == 0) {
+            if (taxiEnemyCarHits.isHit(slot) && enemyCar.getCollisionTimeout() == 0) {
                 enemyCar.setCarHealth(enemyCar.getCarHealth() - taxi.getTAXI_DAMAGE());
                 enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                reportCollision(CollisionRadii.ENEMY_CAR, CollisionRadii.TAXI, taxi.getTAXI_DAMAGE(), enemyCar.getXPos(), enemyCar.getYPos());
 
-                addEffect(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
+                events.publishEffectSpawn(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
             }
 
 
-            // Check collisions with other OtherCar instances
-            for (int j = i + 1; j < enemyCars.size(); j++) {
-                EnemyCar enemyCar2 = enemyCars.get(j);
+            // Check collisions with EnemyCar instances nearby in the same lane
+            for (int k = 0; k < enemyCarPairs.getHitCount(i); k++) {
+                EnemyCar enemyCar2 = enemyCars.get(enemyCarPairs.getHit(i, k));
 
-                if (enemyCar.hasCollided(enemyCar2.getXPos(), enemyCar2.getYPos(), enemyCar2.getCAR_RADIUS())
-                        && enemyCar.getCollisionTimeout() == 0) {
+                if (enemyCar.getCollisionTimeout() == 0) {
                     enemyCar.setCarHealth(enemyCar.getCarHealth() - enemyCar2.getCAR_DAMAGE());
                     enemyCar2.setCarHealth(enemyCar2.getCarHealth() - enemyCar.getCAR_DAMAGE());
+                    reportCollision(CollisionRadii.ENEMY_CAR, CollisionRadii.ENEMY_CAR, enemyCar2.getCAR_DAMAGE(), enemyCar.getXPos(), enemyCar.getYPos());
+                    reportCollision(CollisionRadii.ENEMY_CAR, CollisionRadii.ENEMY_CAR, enemyCar.getCAR_DAMAGE(), enemyCar2.getXPos(), enemyCar2.getYPos());
 
                     enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                     enemyCar2.setCollisionTimeout(MAX_TIMEOUT_DURATION);
@@ -588,18 +1138,19 @@ public class GamePlayScreen {
                         enemyCar2.setMoveForward(true);
                     }
 
-                    addEffect(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
-                    addEffect(enemyCar2.getCarHealth(), enemyCar2.getXPos(), enemyCar2.getYPos());
+                    events.publishEffectSpawn(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
+                    events.publishEffectSpawn(enemyCar2.getCarHealth(), enemyCar2.getXPos(), enemyCar2.getYPos());
                 }
             }
             if (enemyCar.getCollisionTimeout() > 0) {
                 enemyCar.setCollisionTimeout(enemyCar.getCollisionTimeout() - 1);
             }
 
-            if (driver.hasCollided(enemyCar.getXPos(), enemyCar.getYPos(), enemyCar.getCAR_RADIUS()) && driver.getCollisionTimeout() == 0
+            if (driverEnemyCarHits.isHit(slot) && driver.getCollisionTimeout() == 0
                     && !driver.isInTaxi()) {
                 driver.setHumanHealth(driver.getHumanHealth() - enemyCar.getCAR_DAMAGE());
                 driver.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                reportCollision(CollisionRadii.DRIVER, CollisionRadii.ENEMY_CAR, enemyCar.getCAR_DAMAGE(), driver.getXPos(), driver.getYPos());
                 if (enemyCar.getCollisionTimeout() == 0) {
                     enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                 }
@@ -612,11 +1163,13 @@ public class GamePlayScreen {
                 }
             }
 
-            for (Passenger passenger: passengers) {
-                if (passenger.hasCollided(enemyCar.getXPos(), enemyCar.getYPos(), enemyCar.getCAR_RADIUS()) && passenger.getCollisionTimeout() == 0
+            for (int k = 0; k < enemyCarPassengerPairs.getHitCount(i); k++) {
+                Passenger passenger = passengers[enemyCarPassengerPairs.getHit(i, k)];
+                if (passenger.getCollisionTimeout() == 0
                         && passenger.isTripOngoing() && !passenger.isInTaxi()) {
                     passenger.setHumanHealth(passenger.getHumanHealth() - enemyCar.getCAR_DAMAGE());
                     passenger.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                    reportCollision(CollisionRadii.PASSENGER, CollisionRadii.ENEMY_CAR, enemyCar.getCAR_DAMAGE(), passenger.getXPos(), passenger.getYPos());
                     if (enemyCar.getCollisionTimeout() == 0) {
                         enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
                     }
@@ -632,79 +1185,171 @@ public class GamePlayScreen {
         }
     }
 
-    // handles all fireball collisions
-    private void handleFireballCollisions(EnemyCar enemyCar) {
-        for (FireBall fireBall: fireBalls) {
-            if (taxi.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS()) && taxi.getCollisionTimeout() == 0) {
+    // handles every fireball collision in one pass over the fireballs in flight
+    private void handleFireBallCollisions() {
+        for (int slot = 0; slot < fireBallStore.getSize(); slot++) {
+            FireBall fireBall = fireBalls.getFireBall(slot);
+            int shooter = fireBalls.getShooter(slot);
+            if (taxiFireBallHits.isHit(slot) && taxi.getCollisionTimeout() == 0) {
                 taxi.setTaxiHealth(fireBall.getFIRE_BALL_DAMAGE());
                 taxi.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                reportCollision(CollisionRadii.TAXI, CollisionRadii.FIRE_BALL, fireBall.getFIRE_BALL_DAMAGE(), taxi.getTaxiX(), taxi.getTaxiY());
                 fireBall.setHasCollided(true);
 
-                addEffect(taxi.getTaxiHealth(), taxi.getTaxiX(), taxi.getTaxiY());
+                events.publishEffectSpawn(taxi.getTaxiHealth(), taxi.getTaxiX(), taxi.getTaxiY());
                 taxi.setHitFireBall(true);
-            } else if (taxi.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())) {
+            } else if (taxiFireBallHits.isHit(slot)) {
                 fireBall.setHasCollided(true);
             }
 
-            if (enemyCar.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())
-                    && enemyCar.getCollisionTimeout() == 0 && !enemyCar.getFireBalls().contains(fireBall)) {
-                enemyCar.setCarHealth(enemyCar.getCarHealth() - fireBall.getFIRE_BALL_DAMAGE());
-                enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
-                fireBall.setHasCollided(true);
+            // an enemy car is never hit by its own fireballs
+            for (int k = 0; k < fireBallEnemyCarPairs.getHitCount(slot); k++) {
+                EnemyCar enemyCar = enemyCars.get(fireBallEnemyCarPairs.getHit(slot, k));
+                if (enemyCar.getHandle() == shooter) {
+                    continue;
+                }
+                if (enemyCar.getCollisionTimeout() == 0) {
+                    enemyCar.setCarHealth(enemyCar.getCarHealth() - fireBall.getFIRE_BALL_DAMAGE());
+                    enemyCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                    reportCollision(CollisionRadii.ENEMY_CAR, CollisionRadii.FIRE_BALL, fireBall.getFIRE_BALL_DAMAGE(), enemyCar.getXPos(), enemyCar.getYPos());
+                    fireBall.setHasCollided(true);
 
-                addEffect(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
-            } else if (enemyCar.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())
-                    && !enemyCar.getFireBalls().contains(fireBall)) {
-                fireBall.setHasCollided(true);
+                    events.publishEffectSpawn(enemyCar.getCarHealth(), enemyCar.getXPos(), enemyCar.getYPos());
+                } else {
+                    fireBall.setHasCollided(true);
+                }
             }
 
-            if (driver.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())
-                    && driver.getCollisionTimeout() == 0 && !driver.isInTaxi()) {
+            if (driverFireBallHits.isHit(slot) && driver.getCollisionTimeout() == 0 && !driver.isInTaxi()) {
                 driver.setHumanHealth(driver.getHumanHealth() - fireBall.getFIRE_BALL_DAMAGE());
                 driver.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                reportCollision(CollisionRadii.DRIVER, CollisionRadii.FIRE_BALL, fireBall.getFIRE_BALL_DAMAGE(), driver.getXPos(), driver.getYPos());
                 driver.setMoveForward(true);
                 fireBall.setHasCollided(true);
-            } else if (driver.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())) {
+            } else if (driverFireBallHits.isHit(slot)) {
                 fireBall.setHasCollided(true);
             }
 
-            for (Passenger passenger: passengers) {
-                if (passenger.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())
-                        && passenger.getCollisionTimeout() == 0 && passenger.isTripOngoing() && !passenger.isInTaxi()) {
+            for (int k = 0; k < fireBallPassengerPairs.getHitCount(slot); k++) {
+                Passenger passenger = passengers[fireBallPassengerPairs.getHit(slot, k)];
+                if (passenger.getCollisionTimeout() == 0 && passenger.isTripOngoing() && !passenger.isInTaxi()) {
                     passenger.setHumanHealth(passenger.getHumanHealth() - fireBall.getFIRE_BALL_DAMAGE());
                     passenger.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                    reportCollision(CollisionRadii.PASSENGER, CollisionRadii.FIRE_BALL, fireBall.getFIRE_BALL_DAMAGE(), passenger.getXPos(), passenger.getYPos());
                     passenger.setMoveForward(true);
                     fireBall.setHasCollided(true);
-                } else if (passenger.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())
-                        && passenger.isTripOngoing() && !passenger.isInTaxi()) {
+                } else if (passenger.isTripOngoing() && !passenger.isInTaxi()) {
                     fireBall.setHasCollided(true);
                 }
             }
 
-            for (OtherCar otherCar: otherCars) {
-                if (otherCar.hasCollided(fireBall.getXPos(), fireBall.getYPos(), fireBall.getFIRE_BALL_RADIUS())
-                        && otherCar.getCollisionTimeout() == 0) {
+            for (int k = 0; k < fireBallOtherCarPairs.getHitCount(slot); k++) {
+                OtherCar otherCar = otherCars.get(fireBallOtherCarPairs.getHit(slot, k));
+                if (otherCar.getCollisionTimeout() == 0) {
                     otherCar.setCarHealth(otherCar.getCarHealth() - fireBall.getFIRE_BALL_DAMAGE());
                     otherCar.setCollisionTimeout(MAX_TIMEOUT_DURATION);
+                    reportCollision(CollisionRadii.OTHER_CAR, CollisionRadii.FIRE_BALL, fireBall.getFIRE_BALL_DAMAGE(), otherCar.getXPos(), otherCar.getYPos());
                     otherCar.setMoveForward(true);
                     fireBall.setHasCollided(true);
 
-                    addEffect(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
-                } else if (otherCar.hasCollided(fireBall.getXPos(), fireBall.getYPos(),
-                        fireBall.getFIRE_BALL_RADIUS())) {
+                    events.publishEffectSpawn(otherCar.getCarHealth(), otherCar.getXPos(), otherCar.getYPos());
+                } else {
                     fireBall.setHasCollided(true);
                 }
             }
         }
     }
 
+    // report that an object responded to a collision, and the health it lost
+    private void reportCollision(int kind, int otherKind, double damage, double XPos, double YPos) {
+        events.publishCollision(kind, otherKind, XPos, YPos);
+        events.publishDamage(kind, otherKind, damage, XPos, YPos);
+    }
+
+    // spawn the effects and pay the fares published this tick
+    private void consumeEvents(EventBus bus, long first, long end) {
+        for (long event = first; event < end; event++) {
+            if (bus.getType(event) == EventBus.EFFECT_SPAWN) {
+                addEffect(bus.getValue(event), bus.getX(event), bus.getY(event));
+            } else if (bus.getType(event) == EventBus.TRIP_COMPLETED) {
+                totalPay += bus.getValue(event);
+            }
+        }
+    }
+
     // add to effects array list
     private void addEffect(double health, double XPos, double YPos) {
+        Effect effect;
         if (health > 0) {
-            effects.add(new Smoke(GAME_PROPS, XPos, YPos));
+            effect = smokePool.acquire();
+        } else {
+            effect = firePool.acquire();
+        }
+        effect.reset(XPos, YPos);
+        effects.add(effect);
+    }
+
+    // return a finished effect to its pool
+    private void recycleEffect(Effect effect) {
+        if (effect instanceof Smoke) {
+            smokePool.release((Smoke) effect);
+        } else if (effect instanceof Fire) {
+            firePool.release((Fire) effect);
         } else {
-            effects.add(new Fire(GAME_PROPS, XPos, YPos));
-        }    }
+            effect.release();
+        }
+    }
+
+    /**
+     * Describes how well the entity pools are doing, for logging and debug overlays.
+     *
+     * @return a summary of each pool's statistics, one pool per line
+     */
+    public String getPoolStats() {
+        return "other cars: " + otherCarPool.getStats() + System.lineSeparator()
+                + "enemy cars: " + enemyCarPool.getStats() + System.lineSeparator()
+                + "fireballs: " + fireBalls.getPoolStats() + System.lineSeparator()
+                + "smoke: " + smokePool.getStats() + System.lineSeparator()
+                + "fire: " + firePool.getStats();
+    }
+
+    /**
+     * Releases the textures of every game object on this screen once the game is over,
+     * so that the texture registry only counts references from the current game.
+     */
+    public void release() {
+        SUNNY_BACKGROUND_IMAGE.release();
+        RAINY_BACKGROUND_IMAGE.release();
+        taxi.release();
+        driver.release();
+        for (Taxi damagedTaxi : damagedTaxis) {
+            damagedTaxi.release();
+        }
+        for (int i = 0; i < passengerCount; i++) {
+            passengers[i].release();
+        }
+        for (int j = 0; j < coinCount; j++) {
+            coins[j].release();
+        }
+        for (int k = 0; k < starCount; k++) {
+            stars[k].release();
+        }
+        level.close();
+        for (OtherCar otherCar : otherCars) {
+            otherCar.release();
+        }
+        for (EnemyCar enemyCar : enemyCars) {
+            enemyCar.release();
+        }
+        for (Effect effect : effects) {
+            effect.release();
+        }
+        otherCarPool.clear();
+        fireBalls.release();
+        enemyCarPool.clear();
+        smokePool.clear();
+        firePool.clear();
+    }
 
     /**
      * Handles user input for controlling the game.
@@ -713,7 +1358,7 @@ public class GamePlayScreen {
      *
      * @param input the user input used to determine movement direction
      */
-    public void handleInput(Input input) {
+    public void handleInput(InputSource input) {
         if (input.isDown(Keys.UP)) {
             if (driver.isInTaxi()) {
                 background1Y += BACKGROUND_SPEED;
@@ -738,87 +1383,125 @@ public class GamePlayScreen {
     }
 
     // check for horizontal or vertical movement
-    private boolean noMovement(Input input) {
+    private boolean noMovement(InputSource input) {
         return !input.isDown(Keys.UP) && !input.isDown(Keys.DOWN) &&
                 !input.isDown(Keys.LEFT) && !input.isDown(Keys.RIGHT);
     }
 
-    // process csv files containing all entity information
-    private void processGameInfo(String[][] gameInfo) {
-        // initialize passenger and coin arrays
-        passengerCount = 0;
-        coinCount = 0;
-        starCount = 0;
-        for (String[] row : gameInfo) {
-            String entity = row[0];
-            if (entity.equals("PASSENGER")) {
-                passengerCount += 1;
-            } else if (entity.equals("COIN")) {
-                coinCount += 1;
-            } else if (entity.equals("INVINCIBLE_POWER")) {
-                starCount += 1;
-            }
-        }
-        passengers = new Passenger[passengerCount];
-        coins = new Coin[coinCount];
-        stars = new Star[starCount];
-
-        // scan csv file processing entity information
-        int passengerIndex = 0;
-        int coinIndex = 0;
-        int starIndex = 0;
-        for (String[] row : gameInfo) {
-            String entity = row[0];
-            if (entity.equals("TAXI")) {
-                double x = Double.parseDouble(row[1]);
-                double y = Double.parseDouble(row[2]);
+    // create the objects of every level row that has come within the lookahead distance of the top of the window
+    private void loadLevel() {
+        while (level.nextWithin(-LEVEL_LOOKAHEAD - levelScroll)) {
+            LevelEntity entity = level.getEntity();
+            double x = level.getX();
+            // the row is placed where the road has carried it since the game started
+            double y = level.getY() + levelScroll;
+            if (entity == LevelEntity.TAXI) {
                 taxi = new Taxi(GAME_PROPS, x, y);
-            } else if (entity.equals("DRIVER")) {
-                double x = Double.parseDouble(row[1]);
-                double y = Double.parseDouble(row[2]);
+            } else if (entity == LevelEntity.DRIVER) {
                 driver = new Driver(GAME_PROPS, x, y);
-            } else if (entity.equals("PASSENGER")) {
-                double x = Double.parseDouble(row[1]);
-                double y = Double.parseDouble(row[2]);
-                String priority = row[3];
-                int endX = Integer.parseInt(row[4]);
-                int distanceY = Integer.parseInt(row[5]);
-                int hasUmbrella = Integer.parseInt(row[6]);
-                passengers[passengerIndex++] = new Passenger(GAME_PROPS, x, y, priority, endX, distanceY, hasUmbrella);
-            } else if (entity.equals("COIN")) {
-                double x = Double.parseDouble(row[1]);
-                double y = Double.parseDouble(row[2]);
-                coins[coinIndex++] = new Coin(GAME_PROPS, x, y);
-            } else if (entity.equals("INVINCIBLE_POWER")) {
-                double x = Double.parseDouble(row[1]);
-                double y = Double.parseDouble(row[2]);
-                stars[starIndex++] = new Star(GAME_PROPS, x, y);
-            }
-        }
-    }
-
-    // read weather csv
-    private void processWeatherInfo(String[][] weatherInfo) {
-        weatherCount = 0;
-        for (String[] row : weatherInfo) {
-            weatherCount++;
+            } else if (entity == LevelEntity.PASSENGER) {
+                int priority = level.getPriority();
+                int endX = level.getEndX();
+                int distanceY = level.getDistanceY();
+                int hasUmbrella = level.getHasUmbrella();
+                Passenger passenger = new Passenger(GAME_PROPS, x, y, priority, endX, distanceY, hasUmbrella);
+                // rain leaves every passenger without an umbrella at the top priority, even those not yet reached
+                if (hasRained && hasUmbrella == 0) {
+                    passenger.setPriority(1);
+                }
+                passenger.savePosition();
+                if (passengerCount == passengers.length) {
+                    passengers = Arrays.copyOf(passengers, passengerCount * 2);
+                }
+                passengers[passengerCount++] = passenger;
+            } else if (entity == LevelEntity.COIN) {
+                Coin coin = new Coin(GAME_PROPS, collisionRadii, x, y);
+                coin.savePosition();
+                if (coinCount == coins.length) {
+                    coins = Arrays.copyOf(coins, coinCount * 2);
+                }
+                coins[coinCount++] = coin;
+            } else if (entity == LevelEntity.INVINCIBLE_POWER) {
+                Star star = new Star(GAME_PROPS, collisionRadii, x, y);
+                star.savePosition();
+                if (starCount == stars.length) {
+                    stars = Arrays.copyOf(stars, starCount * 2);
+                }
+                stars[starCount++] = star;
+            }
         }
+    }
+
+    // release the level objects that have fallen the release distance below the window, keeping the rest in order,
+    // except a passenger on a trip or whose trip is still shown; a collected power up is released straight away
+    private void releasePassedObjects() {
+        double releaseY = WINDOW_HEIGHT + LEVEL_RELEASE_DISTANCE;
 
-        weathers = new Weather[weatherCount];
-        int weatherIndex = 0;
-        for (String[] row : weatherInfo) {
-            String weather = row[0];
-            int start = Integer.parseInt(row[1]);
-            int end = Integer.parseInt(row[2]);
-            weathers[weatherIndex++] = new Weather(weather, start, end);
+        int kept = 0;
+        for (int i = 0; i < passengerCount; i++) {
+            Passenger passenger = passengers[i];
+            if (passenger.getYPos() > releaseY && !passenger.isInTaxi() && !passenger.isTripOngoing()
+                    && passenger != lastDrivenPassenger) {
+                releasedPassengerHealth = Math.min(releasedPassengerHealth, passenger.getHumanHealth());
+                passenger.release();
+            } else {
+                passengers[kept++] = passenger;
+            }
         }
+        Arrays.fill(passengers, kept, passengerCount, null);
+        passengerCount = kept;
+
+        kept = 0;
+        for (int j = 0; j < coinCount; j++) {
+            if (coins[j].isHasCollided() || coins[j].getYPos() > releaseY) {
+                coins[j].release();
+            } else {
+                coins[kept++] = coins[j];
+            }
+        }
+        Arrays.fill(coins, kept, coinCount, null);
+        coinCount = kept;
+
+        kept = 0;
+        for (int k = 0; k < starCount; k++) {
+            if (stars[k].isHasCollided() || stars[k].getYPos() > releaseY) {
+                stars[k].release();
+            } else {
+                stars[kept++] = stars[k];
+            }
+        }
+        Arrays.fill(stars, kept, starCount, null);
+        starCount = kept;
+    }
+
+    // read the weather from the compiled level, or from the weather csv if the level is not compiled
+    private void processWeatherInfo(CompiledLevel compiledLevel) {
+        if (compiledLevel != null) {
+            weatherCount = compiledLevel.getWeatherCount();
+            weathers = new Weather[weatherCount];
+            for (int i = 0; i < weatherCount; i++) {
+                weathers[i] = compiledLevel.getWeather(i);
+            }
+            return;
+        }
+
+        weatherCount = 0;
+        weathers = new Weather[INITIAL_WEATHER_CAPACITY];
+        try (CsvCursor row = IOUtils.openCommaSeparatedFile(WEATHER_FILE)) {
+            while (row.next()) {
+                if (weatherCount == weathers.length) {
+                    weathers = Arrays.copyOf(weathers, weatherCount * 2);
+                }
+                weathers[weatherCount++] = new Weather(row.stringAt(0), row.intAt(1), row.intAt(2));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        weathers = Arrays.copyOf(weathers, weatherCount);
     }
 
     // set details for total trip statistics
     private void totalDetails() {
-        TOTAL_TITLE = MESSAGE_PROPS.getProperty("gamePlay.earnings");
-        TARGET_TEXT = MESSAGE_PROPS.getProperty("gamePlay.target");
-        framesText = MESSAGE_PROPS.getProperty("gamePlay.remFrames");
         if (framesRemaining > 0) {
             framesRemaining -= 1;
         }
@@ -847,8 +1530,8 @@ public class GamePlayScreen {
         } else if (driver.getHumanHealth() <= 0) {
             return true;
         }
-        for (Passenger passenger: passengers) {
-            if (passenger.getHumanHealth() <= 0) {
+        for (int i = 0; i < passengerCount; i++) {
+            if (passengers[i].getHumanHealth() <= 0) {
                 return true;
             }
         }
@@ -861,4 +1544,20 @@ public class GamePlayScreen {
         return totalPay;
     }
 
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    public EventBus getEvents() {
+        return events;
+    }
+
+    public RandomService getRandom() {
+        return random;
+    }
+
+    public int getFramesPlayed() {
+        return MAX_FRAMES - framesRemaining;
+    }
+
 }
\ No newline at end of file
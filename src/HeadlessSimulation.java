@@ -0,0 +1,157 @@
+import bagel.Keys;
+
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * Runs the gameplay simulation without opening a window.
+ * Each step advances the GamePlayScreen by one frame using a SyntheticInput, so sessions
+ * can be stepped far faster than the display refresh rate for soak tests, balance runs
+ * and machines with no display.
+ */
+public class HeadlessSimulation {
+    private final GamePlayScreen gamePlayScreen;
+    private final SyntheticInput input;
+    private int ticks = 0;
+
+    // length of the cruise cycle used by main, and how long the taxi stops in each cycle
+    private static final int CRUISE_PERIOD = 300;
+    private static final int STOP_DURATION = 120;
+
+    /**
+     * Constructs a HeadlessSimulation of a new game with the given properties and a new random seed.
+     *
+     * @param gameProps the properties related to the game configuration
+     * @param messageProps the properties related to game messages
+     */
+    public HeadlessSimulation(Properties gameProps, Properties messageProps) {
+        this(gameProps, messageProps, RandomService.newSeed());
+    }
+
+    /**
+     * Constructs a HeadlessSimulation of a new game with the given properties and random seed.
+     * Given the same inputs, simulations with the same seed play out the same way.
+     *
+     * @param gameProps the properties related to the game configuration
+     * @param messageProps the properties related to game messages
+     * @param seed the random seed for the session
+     */
+    public HeadlessSimulation(Properties gameProps, Properties messageProps, long seed) {
+        this.gamePlayScreen = new GamePlayScreen(gameProps, messageProps, new RandomService(seed));
+        this.input = new SyntheticInput();
+    }
+
+    /**
+     * Advances the simulation by one frame using the current state of the synthetic input.
+     *
+     * @return true if the game is still running after the frame, false if it has been won or lost
+     */
+    public boolean step() {
+        boolean running = step(input);
+        input.endFrame();
+        return running;
+    }
+
+    /**
+     * Advances the simulation by one frame using the given input, such as a replayed recording.
+     *
+     * @param frameInput the input to play the frame with
+     * @return true if the game is still running after the frame, false if it has been won or lost
+     */
+    public boolean step(InputSource frameInput) {
+        // with nothing drawn, each tick is profiled as a frame of its own
+        FrameProfiler profiler = gamePlayScreen.getProfiler();
+        profiler.beginFrame();
+        gamePlayScreen.update(frameInput);
+        profiler.endFrame();
+        ticks++;
+
+        return !isGameOver();
+    }
+
+    /**
+     * Advances the simulation until the game ends or the given number of frames has been run.
+     *
+     * @param maxTicks the maximum number of frames to run
+     * @return the number of frames run so far
+     */
+    public int run(int maxTicks) {
+        while (ticks < maxTicks && step()) {
+            // keep stepping
+        }
+        return ticks;
+    }
+
+    /**
+     * Checks if the simulated game has been won or lost.
+     *
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return gamePlayScreen.isGameWon() || gamePlayScreen.isGameLost();
+    }
+
+    // getters
+    public SyntheticInput getInput() {
+        return input;
+    }
+
+    public GamePlayScreen getGamePlayScreen() {
+        return gamePlayScreen;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Runs a single headless session, cruising forward and stopping regularly so that
+     * passengers can get in and out, then prints a summary of the session.
+     * The maximum number of frames can be given as the first argument, the random seed as
+     * the second, and a file to record the session's input to as the third.
+     */
+    public static void main(String[] args) throws IOException {
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+        Properties messageProps = IOUtils.readPropertiesFile("res/message_en.properties");
+        int maxTicks = args.length > 0 ? Integer.parseInt(args[0])
+                : Integer.parseInt(gameProps.getProperty("gamePlay.maxFrames"));
+
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : RandomService.newSeed();
+
+        HeadlessSimulation simulation = new HeadlessSimulation(gameProps, messageProps, seed);
+        EventCounter eventCounter = new EventCounter();
+        simulation.getGamePlayScreen().getEvents().subscribe(eventCounter);
+        SyntheticInput input = simulation.getInput();
+        InputRecording recording = args.length > 2 ? new InputRecording(seed) : null;
+
+        long start = System.nanoTime();
+        boolean running = true;
+        while (running && simulation.getTicks() < maxTicks) {
+            if (simulation.getTicks() % CRUISE_PERIOD < STOP_DURATION) {
+                input.release(Keys.UP);
+            } else {
+                input.press(Keys.UP);
+            }
+            if (recording != null) {
+                recording.recordFrame(input);
+            }
+            running = simulation.step();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        GamePlayScreen screen = simulation.getGamePlayScreen();
+        System.out.printf("seed: %d%n", seed);
+        System.out.printf("frames: %d%n", simulation.getTicks());
+        System.out.printf("elapsed: %.3f s (%.0f frames/s)%n", seconds, simulation.getTicks() / seconds);
+        System.out.printf("total pay: %.2f%n", screen.getTotalPay());
+        System.out.println("result: " + (screen.isGameWon() ? "won" : screen.isGameLost() ? "lost" : "running"));
+        System.out.println(screen.getPoolStats());
+        System.out.println(eventCounter);
+        screen.writeProfile();
+
+        if (recording != null) {
+            recording.setFinalPay(screen.getTotalPay());
+            recording.save(args[2]);
+        }
+    }
+}
@@ -39,14 +39,14 @@ public class HomeScreen {
         BACKGROUND_IMAGE = new Image(gameProps.getProperty("backgroundImage.home"));
         TITLE_FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("home.title.fontSize"));
         title = MESSAGE_PROPS.getProperty("home.title");
-        TITLE_FONT = new Font("res/FSO8BITR.TTF", TITLE_FONT_SIZE);
+        TITLE_FONT = FontCache.getFont("res/FSO8BITR.TTF", TITLE_FONT_SIZE);
         TITLE_X = (Window.getWidth() - TITLE_FONT.getWidth(title)) / 2;
         TITLE_Y = Double.parseDouble(GAME_PROPS.getProperty("home.title.y"));
 
         // set properties for screen instructions
         INSTRUCTIONS = MESSAGE_PROPS.getProperty("home.instruction");
         INSTRUCTION_FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("home.instruction.fontSize"));
-        INSTRUCTION_FONT = new Font("res/FSO8BITR.TTF", INSTRUCTION_FONT_SIZE);
+        INSTRUCTION_FONT = FontCache.getFont("res/FSO8BITR.TTF", INSTRUCTION_FONT_SIZE);
         INSTRUCTION_X = (Window.getWidth() - INSTRUCTION_FONT.getWidth(INSTRUCTIONS)) / 2;
         INSTRUCTION_Y = Double.parseDouble(GAME_PROPS.getProperty("home.instruction.y"));
     }
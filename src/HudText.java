@@ -0,0 +1,64 @@
+import bagel.Font;
+
+/**
+ * Represents a line of HUD text made of a fixed label followed by a number, such as a
+ * health bar or the remaining frames. The text is only formatted again when the number
+ * changes, so text that is mostly static costs nothing to draw from frame to frame.
+ */
+public class HudText {
+    private final String LABEL;
+    private final int DECIMALS;
+    private final double X;
+    private final double Y;
+
+    private final StringBuilder builder = new StringBuilder();
+    private double value = Double.NaN;
+    private String text;
+
+    /**
+     * Constructs a HudText with the given label, number format and position.
+     *
+     * @param label the text drawn before the number
+     * @param decimals the number of decimal places the number is shown with
+     * @param x the X coordinate to draw the text at
+     * @param y the Y coordinate to draw the text at
+     */
+    public HudText(String label, int decimals, double x, double y) {
+        this.LABEL = label;
+        this.DECIMALS = decimals;
+        this.X = x;
+        this.Y = y;
+    }
+
+    /**
+     * Sets the number shown, marking the text to be formatted again if it has changed.
+     *
+     * @param value the number to show
+     */
+    public void setValue(double value) {
+        if (Double.compare(value, this.value) != 0) {
+            this.value = value;
+            text = null;
+        }
+    }
+
+    /**
+     * Draws the text with the given font.
+     *
+     * @param font the font to draw the text with
+     */
+    public void draw(Font font) {
+        font.drawString(getText(), X, Y);
+    }
+
+    // getters
+    public String getText() {
+        if (text == null) {
+            builder.setLength(0);
+            builder.append(LABEL);
+            FixedPointFormat.append(builder, value, DECIMALS);
+            text = builder.toString();
+        }
+        return text;
+    }
+}
@@ -6,9 +6,11 @@
 public abstract class Human implements Collidable{
     private boolean inTaxi = false;
     private int TAXI_GET_IN_RADIUS;
-    private int HUMAN_RADIUS;
+    private double HUMAN_RADIUS;
     private double XPos;
     private double YPos;
+    private double previousXPos;
+    private double previousYPos;
     private double humanHealth;
     private int collisionTimeout = 0;
     private boolean moveForward;
@@ -33,13 +35,19 @@ public abstract class Human implements Collidable{
      */
     @Override
     public boolean hasCollided(double XPos, double YPos, double radius) {
-        double distance = Math.sqrt(Math.pow((this.XPos - XPos), 2) + Math.pow((this.YPos - YPos), 2));
-
-        if (distance < HUMAN_RADIUS + radius) {
-            return true;
-        }
+        double dx = this.XPos - XPos;
+        double dy = this.YPos - YPos;
+        double reach = HUMAN_RADIUS + radius;
+        return dx * dx + dy * dy < reach * reach;
+    }
 
-        return false;
+    /**
+     * Remembers the human's position at the start of a tick, so that frames drawn before the
+     * next tick can be placed between where they were and where they are.
+     */
+    public void savePosition() {
+        previousXPos = XPos;
+        previousYPos = YPos;
     }
 
     // getters and setters
@@ -59,10 +67,19 @@ public abstract class Human implements Collidable{
         this.collisionTimeout = collisionTimeout;
     }
 
-    public void setHUMAN_RADIUS(int HUMAN_RADIUS) {
+    public void setHUMAN_RADIUS(double HUMAN_RADIUS) {
         this.HUMAN_RADIUS = HUMAN_RADIUS;
     }
 
+    public double getHUMAN_RADIUS() {
+        return HUMAN_RADIUS;
+    }
+
+    @Override
+    public double getRadius() {
+        return HUMAN_RADIUS;
+    }
+
     public void setTAXI_GET_IN_RADIUS(int TAXI_GET_IN_RADIUS) {
         this.TAXI_GET_IN_RADIUS = TAXI_GET_IN_RADIUS;
     }
@@ -83,6 +100,14 @@ public abstract class Human implements Collidable{
         return YPos;
     }
 
+    public double getDrawX(double alpha) {
+        return MiscUtils.interpolate(previousXPos, XPos, alpha);
+    }
+
+    public double getDrawY(double alpha) {
+        return MiscUtils.interpolate(previousYPos, YPos, alpha);
+    }
+
     public void setHumanHealth(double humanHealth) {
         this.humanHealth = humanHealth;
     }
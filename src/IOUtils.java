@@ -1,4 +1,5 @@
 import java.io.*;
+import java.util.ArrayList;
 import java.util.Properties;
 
 /**
@@ -7,32 +8,39 @@ import java.util.Properties;
 public class IOUtils {
 
     /***
-     * Read a file and return a list of String arrays
+     * Read a file and return a list of String arrays, in one pass over the file
      * @param file: the path to the CSV file
-     * @return: String[][]. Each String[] array represents elements in a single line in the CSV file
+     * @return: String[][]. Each String[] array represents elements in a single line in the CSV file,
+     * blank lines are skipped
      */
     public static String[][] readCommaSeparatedFile(String file) {
-        try {
-            // checking number of lines in file
-            BufferedReader reader = new BufferedReader(new FileReader(file));
-            int numLines = 0;
-
-            while (reader.readLine() != null) {
-                numLines++;
+        try (CsvCursor cursor = new CsvCursor(file)) {
+            ArrayList<String[]> lines = new ArrayList<>();
+            while (cursor.next()) {
+                String[] line = new String[cursor.getColumnCount()];
+                for (int column = 0; column < line.length; column++) {
+                    line[column] = cursor.stringAt(column);
+                }
+                lines.add(line);
             }
-            reader.close();
+            return lines.toArray(new String[0][]);
 
-            reader = new BufferedReader(new FileReader(file));
-            String[][] lines = new String[numLines][];
-            String textRead;
-            int lineIndex = 0;
+        } catch (IOException ex) {
+            ex.printStackTrace();
+            System.exit(-1);
+        }
 
-            while ((textRead = reader.readLine()) != null) {
-                String[] splitText = textRead.split(",");
-                lines[lineIndex++] = splitText;
-            }
-            return lines;
+        return null;
+    }
 
+    /***
+     * Open a cursor over the rows of a CSV file, whose columns are parsed where they lie in the file
+     * @param file: the path to the CSV file
+     * @return: CsvCursor before the first row of the file, to be closed by the caller
+     */
+    public static CsvCursor openCommaSeparatedFile(String file) {
+        try {
+            return new CsvCursor(file);
         } catch (IOException ex) {
             ex.printStackTrace();
             System.exit(-1);
@@ -57,20 +65,4 @@ public class IOUtils {
 
         return appProps;
     }
-
-    /**
-     * Write a score to a file
-     * @param filename The name of the file
-     * @param score The score to be written
-     */
-    public static void writeScoreToFile(String filename, String score) {
-        try(FileWriter fw = new FileWriter(filename, true);
-            BufferedWriter bw = new BufferedWriter(fw);
-            PrintWriter out = new PrintWriter(bw))
-        {
-            out.println(score);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+import java.util.Arrays;
+
+/**
+ * Represents a growable list of int indices that is reused between queries,
+ * so that collecting collision candidates does not allocate every frame.
+ */
+public class IndexList {
+    private int[] values = new int[16];
+    private int size = 0;
+
+    /**
+     * Adds an index to the end of the list.
+     *
+     * @param value the index to add
+     */
+    public void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        values[size++] = value;
+    }
+
+    /**
+     * Sorts the indices in the list into ascending order.
+     */
+    public void sort() {
+        Arrays.sort(values, 0, size);
+    }
+
+    /**
+     * Removes every index from the list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    // getters
+    public int get(int i) {
+        return values[i];
+    }
+
+    public int size() {
+        return size;
+    }
+}
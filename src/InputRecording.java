@@ -0,0 +1,144 @@
+import bagel.Keys;
+
+import java.io.*;
+
+/**
+ * Represents a recorded gameplay session: the random seed of the session and, for every
+ * frame, which of the gameplay keys were down and which were pressed, packed into one byte.
+ * Replaying the frames through a GamePlayScreen created with the same seed plays the
+ * session out exactly as it was recorded. The total pay at the end of the session can be
+ * stored with the recording, so replays can check that they reach the same outcome.
+ */
+public class InputRecording {
+    private static final int MAGIC = 0x53545250;
+    private static final Keys[] KEYS = {Keys.UP, Keys.DOWN, Keys.LEFT, Keys.RIGHT};
+    private static final int PRESSED_SHIFT = 4;
+    private static final int INITIAL_FRAMES = 4096;
+
+    private final long SEED;
+    private byte[] frames;
+    private int frameCount = 0;
+    private double finalPay = Double.NaN;
+
+    /**
+     * Constructs an empty recording of a session with the given seed.
+     *
+     * @param seed the random seed of the session
+     */
+    public InputRecording(long seed) {
+        this.SEED = seed;
+        this.frames = new byte[INITIAL_FRAMES];
+    }
+
+    /**
+     * Records the state of the gameplay keys for the next frame.
+     *
+     * @param input the input the frame is played with
+     */
+    public void recordFrame(InputSource input) {
+        int bits = 0;
+        for (int i = 0; i < KEYS.length; i++) {
+            if (input.isDown(KEYS[i])) {
+                bits |= 1 << i;
+            }
+            if (input.wasPressed(KEYS[i])) {
+                bits |= 1 << (i + PRESSED_SHIFT);
+            }
+        }
+
+        if (frameCount == frames.length) {
+            byte[] grown = new byte[frames.length * 2];
+            System.arraycopy(frames, 0, grown, 0, frameCount);
+            frames = grown;
+        }
+        frames[frameCount++] = (byte) bits;
+    }
+
+    /**
+     * Checks if a key was down in a recorded frame.
+     *
+     * @param frame the frame number, starting from 0
+     * @param key the key to check
+     * @return true if the key was down, false if it was not or is not a gameplay key
+     */
+    public boolean isDown(int frame, Keys key) {
+        int bit = bitOf(key);
+        return bit >= 0 && (frames[frame] & (1 << bit)) != 0;
+    }
+
+    /**
+     * Checks if a key was pressed in a recorded frame.
+     *
+     * @param frame the frame number, starting from 0
+     * @param key the key to check
+     * @return true if the key was pressed, false if it was not or is not a gameplay key
+     */
+    public boolean wasPressed(int frame, Keys key) {
+        int bit = bitOf(key);
+        return bit >= 0 && (frames[frame] & (1 << (bit + PRESSED_SHIFT))) != 0;
+    }
+
+    /**
+     * Writes the recording to a file.
+     *
+     * @param path the path of the file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(String path) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeLong(SEED);
+            out.writeDouble(finalPay);
+            out.writeInt(frameCount);
+            out.write(frames, 0, frameCount);
+        }
+    }
+
+    /**
+     * Reads a recording from a file.
+     *
+     * @param path the path of the file
+     * @return the recording
+     * @throws IOException if the file cannot be read or is not a recording
+     */
+    public static InputRecording load(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not an input recording");
+            }
+            InputRecording recording = new InputRecording(in.readLong());
+            recording.finalPay = in.readDouble();
+            recording.frameCount = in.readInt();
+            recording.frames = new byte[recording.frameCount];
+            in.readFully(recording.frames);
+            return recording;
+        }
+    }
+
+    // find the bit that records a key, or -1 if it is not a gameplay key
+    private static int bitOf(Keys key) {
+        for (int i = 0; i < KEYS.length; i++) {
+            if (KEYS[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // getters and setters
+    public long getSeed() {
+        return SEED;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public double getFinalPay() {
+        return finalPay;
+    }
+
+    public void setFinalPay(double finalPay) {
+        this.finalPay = finalPay;
+    }
+}
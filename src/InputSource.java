@@ -0,0 +1,12 @@
+import bagel.Keys;
+
+/**
+ * Represents a source of keyboard state for the gameplay simulation.
+ * Gameplay objects read their input through this interface, so a tick can be driven
+ * either by the bagel window or by a synthetic source with no window open.
+ */
+public interface InputSource {
+    boolean isDown(Keys key);
+
+    boolean wasPressed(Keys key);
+}
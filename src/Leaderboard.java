@@ -0,0 +1,67 @@
+/**
+ * Represents the highest scores recorded in the game, ordered from highest to lowest.
+ * Only the top scores are kept, and each new score is inserted in time proportional to
+ * the number of scores shown. Scores that are equal keep the order in which they were added.
+ */
+public class Leaderboard {
+    private final String[] lines;
+    private final double[] scores;
+    private int size = 0;
+
+    /**
+     * Constructs an empty Leaderboard that keeps the given number of highest scores.
+     *
+     * @param capacity the number of scores to keep
+     */
+    public Leaderboard(int capacity) {
+        this.lines = new String[capacity];
+        this.scores = new double[capacity];
+    }
+
+    /**
+     * Adds a score, if it is high enough to be kept.
+     *
+     * @param line the text shown for the score
+     * @param score the score
+     * @return true if the score was kept, false otherwise
+     */
+    public boolean insert(String line, double score) {
+        // find the position after every score that is at least as high
+        int position = size;
+        while (position > 0 && scores[position - 1] < score) {
+            position--;
+        }
+        if (position == lines.length) {
+            return false;
+        }
+
+        int last = Math.min(size, lines.length - 1);
+        for (int i = last; i > position; i--) {
+            lines[i] = lines[i - 1];
+            scores[i] = scores[i - 1];
+        }
+        lines[position] = line;
+        scores[position] = score;
+        if (size < lines.length) {
+            size++;
+        }
+        return true;
+    }
+
+    // getters
+    public int getSize() {
+        return size;
+    }
+
+    public int getCapacity() {
+        return lines.length;
+    }
+
+    public String getLine(int index) {
+        return lines[index];
+    }
+
+    public double getScore(int index) {
+        return scores[index];
+    }
+}
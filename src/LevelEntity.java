@@ -0,0 +1,11 @@
+/**
+ * Represents the kinds of game object that a row of a level file can place, named as they
+ * are written in the first column of the row.
+ */
+public enum LevelEntity {
+    TAXI,
+    DRIVER,
+    PASSENGER,
+    COIN,
+    INVINCIBLE_POWER
+}
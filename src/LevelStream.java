@@ -0,0 +1,43 @@
+/**
+ * Represents the rows of a level, read one at a time as the road scrolls towards them
+ * rather than all at once, so that the memory a level needs does not grow with its length.
+ * A level is read either from its CSV file or from the binary file it was compiled into,
+ * and both give the same rows in the same order.
+ * The rows must be in order of decreasing Y, which is the order they come into view, and
+ * reaching a row out of that order is an error, rather than the row coming into the game late.
+ * Compiling a level reads every row, so a compiled level is known to be in order.
+ */
+public interface LevelStream {
+    /**
+     * Moves to the next row of the level if it has come within reach. The getters describe
+     * the row until the next call.
+     *
+     * @param minY the smallest Y, in the level file's coordinates, that is within reach
+     * @return true if the stream is on the row, false if the next row is not yet within reach
+     *         or the level has no rows left
+     * @throws IllegalStateException if the next row has a greater Y than the row before it
+     */
+    boolean nextWithin(double minY);
+
+    /**
+     * Closes the level, dropping any rows that have not been handed out.
+     */
+    void close();
+
+    // getters, for the current row
+    LevelEntity getEntity();
+
+    double getX();
+
+    double getY();
+
+    int getPriority();
+
+    int getEndX();
+
+    int getDistanceY();
+
+    int getHasUmbrella();
+
+    boolean isEnded();
+}
@@ -0,0 +1,104 @@
+import java.util.ArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Represents a pool of reusable game objects with a bounded free list.
+ * Objects are acquired from the pool and reset by the caller, then released back to the
+ * pool when they leave the game, so that high-churn objects such as fireballs, effects and
+ * traffic are not reallocated every time they spawn. Objects released while the free list
+ * is full are disposed of instead.
+ *
+ * @param <T> the type of object held in the pool
+ */
+public class ObjectPool<T> {
+    private final ArrayList<T> freeObjects;
+    private final int MAX_FREE;
+    private final Supplier<T> factory;
+    private final Consumer<T> disposer;
+
+    private long acquisitions = 0;
+    private long misses = 0;
+    private long discards = 0;
+
+    /**
+     * Constructs an empty ObjectPool.
+     *
+     * @param maxFree the largest number of free objects kept for reuse
+     * @param factory creates a new object when the free list is empty
+     * @param disposer releases the resources of an object that will not be reused
+     */
+    public ObjectPool(int maxFree, Supplier<T> factory, Consumer<T> disposer) {
+        this.freeObjects = new ArrayList<>(maxFree);
+        this.MAX_FREE = maxFree;
+        this.factory = factory;
+        this.disposer = disposer;
+    }
+
+    /**
+     * Takes an object from the free list, or creates one if the free list is empty.
+     * The object must be reset by the caller before it is used.
+     *
+     * @return an object that is not in use
+     */
+    public T acquire() {
+        acquisitions++;
+        if (freeObjects.isEmpty()) {
+            misses++;
+            return factory.get();
+        }
+        return freeObjects.remove(freeObjects.size() - 1);
+    }
+
+    /**
+     * Returns an object that has left the game to the free list, or disposes of it if the
+     * free list is full.
+     *
+     * @param object the object to return
+     */
+    public void release(T object) {
+        if (freeObjects.size() < MAX_FREE) {
+            freeObjects.add(object);
+        } else {
+            discards++;
+            disposer.accept(object);
+        }
+    }
+
+    /**
+     * Disposes of every object in the free list.
+     */
+    public void clear() {
+        for (T object : freeObjects) {
+            disposer.accept(object);
+        }
+        freeObjects.clear();
+    }
+
+    /**
+     * Describes how well the pool is doing, for logging and debug overlays.
+     *
+     * @return a one line summary of the pool's statistics
+     */
+    public String getStats() {
+        return String.format("%d free, %d acquired, %d misses, %d discards",
+                freeObjects.size(), acquisitions, misses, discards);
+    }
+
+    // getters
+    public int getFreeCount() {
+        return freeObjects.size();
+    }
+
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getDiscards() {
+        return discards;
+    }
+}
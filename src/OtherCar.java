@@ -1,7 +1,3 @@
-import bagel.Input;
-import bagel.Image;
-import bagel.Keys;
-
 import java.util.Properties;
 
 /**
@@ -11,69 +7,80 @@ import java.util.Properties;
  */
 public class OtherCar extends Car{
     private final Properties GAME_PROPS;
-    private final Image OTHER_CAR_IMAGE;
-
+    private final Sprite[] OTHER_CAR_IMAGES;
+    private final double OTHER_CAR_HEALTH;
+    private Sprite otherCarImage;
 
     /**
-     * Constructs an OtherCar object with specified properties and a random image.
+     * Constructs an OtherCar object with specified properties. The car must be reset
+     * before it is used, which gives it a random image, position and speed.
      *
      * @param gameProps the game properties containing image, speed, and other settings
+     * @param random the random numbers for the game session
+     * @param store the store holding the state of every other car on the road
      */
-    public OtherCar(Properties gameProps) {
+    public OtherCar(Properties gameProps, RandomService random, EntityStore store) {
         this.GAME_PROPS = gameProps;
-        // get random other car image
-        int randomNum = MiscUtils.getRandomInt(1, 3);
-        String imagePath = String.format(GAME_PROPS.getProperty("gameObjects.otherCar.image"), randomNum);
-        OTHER_CAR_IMAGE = new Image(imagePath);
+        setRandom(random);
+        setStore(store);
+        // hold every other car image so that a pooled car can take any of them
+        OTHER_CAR_IMAGES = new Sprite[Integer.parseInt(GAME_PROPS.getProperty("gameObjects.otherCar.types"))];
+        for (int i = 0; i < OTHER_CAR_IMAGES.length; i++) {
+            String imagePath = String.format(GAME_PROPS.getProperty("gameObjects.otherCar.image"), i + 1);
+            OTHER_CAR_IMAGES[i] = new Sprite(imagePath);
+        }
 
         setCAR_MAX_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.enemyCar.maxSpeedY")));
         setCAR_MIN_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.enemyCar.minSpeedY")));
         setSCREEN_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY")));
         setCAR_RADIUS(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.radius")));
         setCAR_DAMAGE(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.damage")));
-        setCarHealth(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.health")));
+        OTHER_CAR_HEALTH = Double.parseDouble(GAME_PROPS.getProperty("gameObjects.otherCar.health"));
 
         setROAD_LANE_1(Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter1")));
         setROAD_LANE_2(Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter2")));
         setROAD_LANE_3(Integer.parseInt(GAME_PROPS.getProperty("roadLaneCenter3")));
-
-        this.getSpawnLocation();
-        setCAR_SPEED(MiscUtils.getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
     }
 
     /**
-     * Renders the other car on the screen, updates its position based on collision logic,
-     * and adjusts its movement based on user input.
-     *
-     * @param input the user input to determine movement direction
-     * @param driverInTaxi indicates if the driver is currently in the taxi
+     * Resets the other car so it can be spawned, giving it a random image, spawn location
+     * and speed, and full health.
      */
-    public void render(Input input, boolean driverInTaxi) {
-        OTHER_CAR_IMAGE.draw(getXPos(), getYPos());
+    public void reset() {
+        // get random other car image
+        int randomNum = getRandom().getTraffic().getRandomInt(1, OTHER_CAR_IMAGES.length + 1);
+        otherCarImage = OTHER_CAR_IMAGES[randomNum - 1];
 
-        if (getCollisionTimeout() > getSEPARATION_DURATION()) {
-            // handle separation logic
-            if (isMoveForward()) {
-                setYPos(getYPos() - 1);
-            } else {
-                setYPos(getYPos() + 1);
-            }
-            setCAR_SPEED(MiscUtils.getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
-        } else if (getCollisionTimeout() > 0) {
-            // do nothing
-        } else {
-            setYPos(getYPos() - getCAR_SPEED());
-        }
+        respawn(OTHER_CAR_HEALTH);
+        setCAR_SPEED(getRandom().getSpeeds().getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
+    }
 
-        if (input.isDown(Keys.UP) && driverInTaxi) {
-            setYPos(getYPos() + getSCREEN_SPEED());
-        } else if (input.isDown(Keys.UP) && !driverInTaxi) {
-            setYPos(getYPos() + 1);
-        } else if (input.isDown(Keys.DOWN) && !driverInTaxi) {
-            setYPos(getYPos() - 1);
+    /**
+     * Gives the other car a new random speed while it is backing away from a collision.
+     * The car itself is moved along with every other car by EntityStore.moveTraffic.
+     */
+    public void update() {
+        if (getCollisionTimeout() > getSEPARATION_DURATION()) {
+            setCAR_SPEED(getRandom().getSpeeds().getRandomInt(getCAR_MIN_SPEED(), getCAR_MAX_SPEED() + 1));
         }
     }
 
+    /**
+     * Draws the other car on the screen.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        otherCarImage.draw(getDrawX(alpha), getDrawY(alpha));
+    }
 
+    /**
+     * Releases the other car's textures once it has been removed from the game.
+     */
+    public void release() {
+        for (Sprite image : OTHER_CAR_IMAGES) {
+            image.release();
+        }
+    }
 
 }
@@ -0,0 +1,39 @@
+/**
+ * Represents a test of one circle against a batch of circles, finding every circle of the
+ * batch that it overlaps. Two circles overlap when the distance between their centres is
+ * less than the sum of their radii, which is tested on squared distances so no square root
+ * is taken. The batch is given as parallel arrays of centres and radii, such as the arrays
+ * of an EntityStore.
+ */
+public interface OverlapKernel {
+    /**
+     * Tests a circle against the first count circles of a batch.
+     *
+     * @param x the X position of the circle's centre
+     * @param y the Y position of the circle's centre
+     * @param radius the radius of the circle
+     * @param xs the X positions of the centres of the batch
+     * @param ys the Y positions of the centres of the batch
+     * @param radii the radii of the batch
+     * @param count the number of circles in the batch
+     * @param hits set to whether the circle overlaps each circle of the batch, at the same index
+     * @return the number of circles of the batch that the circle overlaps
+     */
+    int findOverlaps(double x, double y, double radius, double[] xs, double[] ys, double[] radii,
+                     int count, boolean[] hits);
+
+    /**
+     * Gets the fastest kernel that the running JVM supports. The kernel built on the Vector API
+     * is only loaded when the JVM was started with --add-modules jdk.incubator.vector, and the
+     * scalar kernel is used otherwise. Both find exactly the same overlaps.
+     *
+     * @return the kernel
+     */
+    static OverlapKernel create() {
+        try {
+            return (OverlapKernel) Class.forName("VectorOverlapKernel").getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarOverlapKernel();
+        }
+    }
+}
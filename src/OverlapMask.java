@@ -0,0 +1,96 @@
+import java.util.Arrays;
+
+/**
+ * Represents which circles of a batch a circle overlaps, found with an OverlapKernel.
+ * The batch is either every object of an EntityStore, when the hits are indexed by slot,
+ * or a list of candidates added one at a time, when the hits are indexed in the order the
+ * candidates were added. The arrays are kept between tests, so testing allocates nothing
+ * once they have grown to the largest batch.
+ */
+public class OverlapMask {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final OverlapKernel KERNEL;
+    private boolean[] hits = new boolean[INITIAL_CAPACITY];
+
+    // the candidates added since the last clear
+    private double[] xs = new double[INITIAL_CAPACITY];
+    private double[] ys = new double[INITIAL_CAPACITY];
+    private double[] radii = new double[INITIAL_CAPACITY];
+    private int candidateCount = 0;
+
+    /**
+     * Constructs an OverlapMask that tests with the given kernel.
+     *
+     * @param kernel the kernel to test overlaps with
+     */
+    public OverlapMask(OverlapKernel kernel) {
+        this.KERNEL = kernel;
+    }
+
+    /**
+     * Tests a circle against every object of a store. The hits are indexed by slot.
+     *
+     * @param x the X position of the circle's centre
+     * @param y the Y position of the circle's centre
+     * @param radius the radius of the circle
+     * @param store the store to test against
+     * @return the number of objects the circle overlaps
+     */
+    public int testStore(double x, double y, double radius, EntityStore store) {
+        ensureHitCapacity(store.getSize());
+        return KERNEL.findOverlaps(x, y, radius, store.getXs(), store.getYs(), store.getRadii(), store.getSize(), hits);
+    }
+
+    /**
+     * Forgets the candidates added since the last clear.
+     */
+    public void clearCandidates() {
+        candidateCount = 0;
+    }
+
+    /**
+     * Adds a circle to the candidates to be tested.
+     *
+     * @param x the X position of the candidate's centre
+     * @param y the Y position of the candidate's centre
+     * @param radius the radius of the candidate
+     */
+    public void addCandidate(double x, double y, double radius) {
+        if (candidateCount == xs.length) {
+            xs = Arrays.copyOf(xs, candidateCount * 2);
+            ys = Arrays.copyOf(ys, candidateCount * 2);
+            radii = Arrays.copyOf(radii, candidateCount * 2);
+        }
+        xs[candidateCount] = x;
+        ys[candidateCount] = y;
+        radii[candidateCount] = radius;
+        candidateCount++;
+    }
+
+    /**
+     * Tests a circle against the candidates added since the last clear. The hits are indexed
+     * in the order the candidates were added.
+     *
+     * @param x the X position of the circle's centre
+     * @param y the Y position of the circle's centre
+     * @param radius the radius of the circle
+     * @return the number of candidates the circle overlaps
+     */
+    public int testCandidates(double x, double y, double radius) {
+        ensureHitCapacity(candidateCount);
+        return KERNEL.findOverlaps(x, y, radius, xs, ys, radii, candidateCount, hits);
+    }
+
+    // make room for the hits of a batch of the given size
+    private void ensureHitCapacity(int count) {
+        if (count > hits.length) {
+            hits = new boolean[Math.max(count, hits.length * 2)];
+        }
+    }
+
+    // getters
+    public boolean isHit(int index) {
+        return hits[index];
+    }
+}
@@ -9,7 +9,7 @@ import java.util.Properties;
 public class Passenger extends Human{
     private final Properties GAME_PROPS;
 
-    private final Image PASSENGER_IMAGE;
+    private final Sprite PASSENGER_IMAGE;
     private int priority;
     private int passengerEndX;
     private int distanceY;
@@ -28,6 +28,9 @@ public class Passenger extends Human{
     private final int HAS_UMBRELLA;
     private double exp;
     private final int EXP_X = 100;
+    // text drawn while the passenger waits, formatted again only when the priority changes
+    private String priorityString;
+    private String expString;
 
     private final double RATE_PER_Y;
     private final int PRIORITY1_RATE;
@@ -46,17 +49,17 @@ public class Passenger extends Human{
      * @param distanceY the vertical distance from the passenger's position to the drop-off point
      * @param hasUmbrella indicates if the passenger has an umbrella (1 for yes, 0 for no)
      */
-    public Passenger(Properties gameProps, double passengerX, double passengerY, String priority, int passengerEndX,
+    public Passenger(Properties gameProps, double passengerX, double passengerY, int priority, int passengerEndX,
                      int distanceY, int hasUmbrella) {
         this.GAME_PROPS = gameProps;
 
         setTAXI_GET_IN_RADIUS(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.driver.taxiGetInRadius")));
 
         // set passenger properties
-        PASSENGER_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.passenger.image"));
+        PASSENGER_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.passenger.image"));
         setXPos(passengerX);
         setYPos(passengerY);
-        this.priority = Integer.parseInt(priority);
+        this.priority = priority;
         this.passengerEndX = passengerEndX;
         this.distanceY = distanceY;
         this.HAS_UMBRELLA = hasUmbrella;
@@ -67,33 +70,25 @@ public class Passenger extends Human{
         tripEndFlag = new TripEndFlag(GAME_PROPS, passengerEndX, passengerY - distanceY);
         FLAG_RADIUS = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.tripEndFlag.radius"));
         setHumanHealth(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.driver.health")));
-        setHUMAN_RADIUS(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.passenger.radius")));
+        setHUMAN_RADIUS(Double.parseDouble(GAME_PROPS.getProperty("gameObjects.passenger.radius")));
 
         // set calculation properties
         RATE_PER_Y = Double.parseDouble(GAME_PROPS.getProperty("trip.rate.perY"));
         PRIORITY1_RATE = Integer.parseInt(GAME_PROPS.getProperty("trip.rate.priority1"));
         PRIORITY2_RATE = Integer.parseInt(GAME_PROPS.getProperty("trip.rate.priority2"));
         PRIORITY3_RATE = Integer.parseInt(GAME_PROPS.getProperty("trip.rate.priority3"));
+        updateWaitingText();
     }
 
     /**
-     * Renders the passenger on the screen and updates their position based on user input and taxi state.
+     * Updates the passenger's position based on user input and taxi state.
      *
      * @param input the user input to determine movement direction
      * @param taxiX the X position of the taxi
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
-    public void render(Input input, double taxiX, boolean driverInTaxi) {
+    public void update(InputSource input, double taxiX, boolean driverInTaxi) {
         if (!isInTaxi()) {
-            PASSENGER_IMAGE.draw(getXPos(), getYPos());
-
-            if (!tripOngoing && !driven) {
-                Font font = new Font("res/FSO8BITR.TTF", FONT_SIZE);
-                font.drawString(String.valueOf(priority), getXPos() - PRIORITY_X, getYPos());
-                calculateExpected(priority, distanceY);
-                font.drawString(String.valueOf(exp), getXPos() - EXP_X, getYPos());
-            }
-
             if (tripOngoing && !driven) {
                 if (input.isDown(Keys.LEFT)) {
                     setXPos(getXPos() - PASSENGER_SPEED);
@@ -120,15 +115,58 @@ public class Passenger extends Human{
             }
         }
 
-        // render trip end flag
+        // update trip end flag
         if (tripOngoing && isInTaxi()) {
-            tripEndFlag.render(input, driverInTaxi);
+            tripEndFlag.update(input, driverInTaxi);
             // passenger follows taxi when on board
             setXPos(taxiX);
         } else if (tripOngoing) {
-            tripEndFlag.render(input, driverInTaxi);
+            tripEndFlag.update(input, driverInTaxi);
+        }
+
+    }
+
+    /**
+     * Remembers the positions of the passenger and their trip end flag at the start of a tick.
+     */
+    @Override
+    public void savePosition() {
+        super.savePosition();
+        tripEndFlag.savePosition();
+    }
+
+    /**
+     * Draws the passenger, their trip details while waiting, and their trip end flag
+     * while the trip is ongoing.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        if (!isInTaxi()) {
+            double drawX = getDrawX(alpha);
+            double drawY = getDrawY(alpha);
+            PASSENGER_IMAGE.draw(drawX, drawY);
+
+            if (!tripOngoing && !driven) {
+                Font font = FontCache.getFont("res/FSO8BITR.TTF", FONT_SIZE);
+                font.drawString(priorityString, drawX - PRIORITY_X, drawY);
+                font.drawString(expString, drawX - EXP_X, drawY);
+            }
+        }
+
+        // render trip end flag
+        if (tripOngoing) {
+            tripEndFlag.draw(alpha);
         }
+    }
 
+    /**
+     * Releases the textures of the passenger and their trip end flag once they have been
+     * removed from the game.
+     */
+    public void release() {
+        PASSENGER_IMAGE.release();
+        tripEndFlag.release();
     }
 
     /**
@@ -240,12 +278,19 @@ public class Passenger extends Human{
         return exp;
     }
 
+    // calculate the expected earnings shown while waiting, and format the text drawn for them
+    private void updateWaitingText() {
+        calculateExpected(priority, distanceY);
+        priorityString = String.valueOf(priority);
+        expString = String.valueOf(exp);
+    }
+
     //getters and setters
     public void setPoweredUp(boolean poweredUp) {
         this.poweredUp = poweredUp;
 
         if (poweredUp) {
-            this.priority = calculatePriority(this.priority);
+            setPriority(calculatePriority(this.priority));
         }
     }
 
@@ -262,7 +307,10 @@ public class Passenger extends Human{
     }
 
     public void setPriority(int priority) {
-        this.priority = priority;
+        if (priority != this.priority) {
+            this.priority = priority;
+            updateWaitingText();
+        }
     }
 
     public int getPriority() {
@@ -42,7 +42,7 @@ public class PlayerInformationScreen {
         BACKGROUND_IMAGE = new Image(GAME_PROPS.getProperty("backgroundImage.playerInfo"));
         TITLE = MESSAGE_PROPS.getProperty("playerInfo.playerName");
         FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("playerInfo.fontSize"));
-        FONT = new Font("res/FSO8BITR.TTF", FONT_SIZE);
+        FONT = FontCache.getFont("res/FSO8BITR.TTF", FONT_SIZE);
         TITLE_X = (Window.getWidth() - FONT.getWidth(TITLE)) / 2;
         TITLE_Y = Double.parseDouble(GAME_PROPS.getProperty("playerInfo.playerName.y"));
 
@@ -6,35 +6,41 @@
 public class PowerUp {
     private double XPos;
     private double YPos;
+    private double previousYPos;
 
-    private String TAXI_RADIUS;
     private int SCREEN_SPEED;
-    private String POWER_UP_RADIUS;
+    private double REACH_SQUARED;
     private boolean hasCollided = false;
 
     /**
      * Checks for a collision between the coin and the taxi.
      *
-     * This method calculates the distance between the coin and the taxi and determines
-     * if they have collided based on their combined radii. If a collision is detected,
-     * it sets the collision state to true.
+     * This method compares the squared distance between the coin and the taxi with the
+     * square of their combined radii, worked out when the power-up was constructed. If a
+     * collision is detected, it sets the collision state to true.
      *
      * @param taxiX the X-coordinate of the taxi
      * @param taxiY the Y-coordinate of the taxi
      */
     public void checkCollision(double taxiX, double taxiY) {
         if (!hasCollided) {
-            double radius = Double.parseDouble(TAXI_RADIUS) + Double.parseDouble(POWER_UP_RADIUS);
+            double dx = XPos - taxiX;
+            double dy = YPos - taxiY;
 
-            double coinToTaxiDistance = Math.sqrt(Math.pow((XPos - taxiX), 2) +
-                    Math.pow((YPos - taxiY), 2));
-
-            if (coinToTaxiDistance <= radius) {
+            if (dx * dx + dy * dy <= REACH_SQUARED) {
                 hasCollided = true;
             }
         }
     }
 
+    /**
+     * Remembers the power-up's position at the start of a tick. Power-ups only move
+     * vertically, with the road.
+     */
+    public void savePosition() {
+        previousYPos = YPos;
+    }
+
     // getters and setters
     public double getXPos() {
         return XPos;
@@ -44,6 +50,10 @@ public class PowerUp {
         return YPos;
     }
 
+    public double getDrawY(double alpha) {
+        return MiscUtils.interpolate(previousYPos, YPos, alpha);
+    }
+
     public void setXPos(double XPos) {
         this.XPos = XPos;
     }
@@ -56,16 +66,12 @@ public class PowerUp {
         return SCREEN_SPEED;
     }
 
-    public void setTAXI_RADIUS(String TAXI_RADIUS) {
-        this.TAXI_RADIUS = TAXI_RADIUS;
-    }
-
     public void setSCREEN_SPEED(int SCREEN_SPEED) {
         this.SCREEN_SPEED = SCREEN_SPEED;
     }
 
-    public void setPOWER_UP_RADIUS(String POWER_UP_RADIUS) {
-        this.POWER_UP_RADIUS = POWER_UP_RADIUS;
+    public void setREACH_SQUARED(double REACH_SQUARED) {
+        this.REACH_SQUARED = REACH_SQUARED;
     }
 
     public boolean isHasCollided() {
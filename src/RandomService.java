@@ -0,0 +1,63 @@
+import java.util.SplittableRandom;
+
+/**
+ * Represents the random numbers used by a game session. Every stream is split from a single
+ * session seed, and each part of the game draws from its own stream, so a change to how
+ * often one part rolls does not change what the others get, and the same seed always
+ * replays the same session.
+ */
+public class RandomService {
+    private final long SEED;
+    // when traffic spawns and what it looks like
+    private final RandomStream traffic;
+    // where spawned cars and replacement taxis are placed
+    private final RandomStream spawnPositions;
+    // how fast cars drive
+    private final RandomStream speeds;
+    // when enemy cars shoot fireballs
+    private final RandomStream fireBalls;
+
+    /**
+     * Constructs a RandomService for a session with the given seed.
+     *
+     * @param seed the session seed
+     */
+    public RandomService(long seed) {
+        this.SEED = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.traffic = new RandomStream(root.split());
+        this.spawnPositions = new RandomStream(root.split());
+        this.speeds = new RandomStream(root.split());
+        this.fireBalls = new RandomStream(root.split());
+    }
+
+    /**
+     * Creates a seed for a new session that is not being replayed.
+     *
+     * @return a new session seed
+     */
+    public static long newSeed() {
+        return System.nanoTime();
+    }
+
+    // getters
+    public long getSeed() {
+        return SEED;
+    }
+
+    public RandomStream getTraffic() {
+        return traffic;
+    }
+
+    public RandomStream getSpawnPositions() {
+        return spawnPositions;
+    }
+
+    public RandomStream getSpeeds() {
+        return speeds;
+    }
+
+    public RandomStream getFireBalls() {
+        return fireBalls;
+    }
+}
@@ -0,0 +1,49 @@
+import java.util.SplittableRandom;
+
+/**
+ * Represents an independent stream of random numbers used by one part of the game.
+ * Provides the same random choices as MiscUtils, but draws them from a seeded
+ * SplittableRandom, so nothing is allocated per call and the same seed gives the same choices.
+ */
+public class RandomStream {
+    private final SplittableRandom random;
+
+    /**
+     * Constructs a RandomStream that draws from the given generator.
+     *
+     * @param random the generator to draw from
+     */
+    public RandomStream(SplittableRandom random) {
+        this.random = random;
+    }
+
+    /**
+     * Check if the game should spawn a new entity.
+     * @param rate The rate of spawn.
+     * @return true if the game should spawn a new entity, false otherwise.
+     */
+    public boolean canSpawn(int rate) {
+        int rnd = random.nextInt(1000) + 1;
+        return rnd % rate == 0;
+    }
+
+    /**
+     * Get a random integer between min (inclusive) and max (exclusive).
+     * @param min The minimum value.
+     * @param max The maximum value.
+     * @return A random integer between min and max.
+     */
+    public int getRandomInt(int min, int max) {
+        return random.nextInt(max - min) + min;
+    }
+
+    /**
+     * Select a value randomly between val1 and val2.
+     * @param val1 The first value.
+     * @param val2 The second value.
+     * @return Either val1 or val2.
+     */
+    public int selectAValue(int val1, int val2) {
+        return random.nextBoolean() ? val1 : val2;
+    }
+}
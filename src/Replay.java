@@ -0,0 +1,61 @@
+import java.io.IOException;
+import java.util.Properties;
+
+/**
+ * Replays recorded gameplay sessions without opening a window, as fast as the simulation
+ * can run. Each replay is checked against the length and total pay of its recording, so a
+ * set of recordings can be used as a regression corpus and as repeatable workloads.
+ */
+public class Replay {
+
+    /**
+     * Replays a recording from its first frame until the game ends or the recording runs out.
+     *
+     * @param gameProps the properties related to the game configuration
+     * @param messageProps the properties related to game messages
+     * @param recording the recording to replay
+     * @return the simulation, left at the end of the replay
+     */
+    public static HeadlessSimulation run(Properties gameProps, Properties messageProps, InputRecording recording) {
+        HeadlessSimulation simulation = new HeadlessSimulation(gameProps, messageProps, recording.getSeed());
+        ReplayInput input = new ReplayInput(recording);
+
+        boolean running = true;
+        while (running && input.nextFrame()) {
+            running = simulation.step(input);
+        }
+        return simulation;
+    }
+
+    /**
+     * Replays each recording given as an argument and prints how it went. Exits with a
+     * non-zero status if any replay does not end with the frames and total pay it was recorded with.
+     */
+    public static void main(String[] args) throws IOException {
+        Properties gameProps = IOUtils.readPropertiesFile("res/app.properties");
+        Properties messageProps = IOUtils.readPropertiesFile("res/message_en.properties");
+
+        boolean allMatched = true;
+        for (String path : args) {
+            InputRecording recording = InputRecording.load(path);
+
+            long start = System.nanoTime();
+            HeadlessSimulation simulation = run(gameProps, messageProps, recording);
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            double pay = simulation.getGamePlayScreen().getTotalPay();
+            boolean matched = simulation.getTicks() == recording.getFrameCount()
+                    && (Double.isNaN(recording.getFinalPay()) || pay == recording.getFinalPay());
+            allMatched &= matched;
+
+            System.out.printf("%s: %d frames in %.3f s (%.0f frames/s), total pay %.2f, %s%n",
+                    path, simulation.getTicks(), seconds, simulation.getTicks() / seconds, pay,
+                    matched ? "matches recording" : String.format("recorded %d frames, total pay %.2f",
+                            recording.getFrameCount(), recording.getFinalPay()));
+        }
+
+        if (!allMatched) {
+            System.exit(1);
+        }
+    }
+}
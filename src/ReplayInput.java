@@ -0,0 +1,45 @@
+import bagel.Keys;
+
+/**
+ * Represents input played back from an InputRecording, one recorded frame at a time.
+ */
+public class ReplayInput implements InputSource {
+    private final InputRecording recording;
+    private int frame = -1;
+
+    /**
+     * Constructs a ReplayInput that plays back the given recording from its first frame.
+     *
+     * @param recording the recording to play back
+     */
+    public ReplayInput(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    /**
+     * Moves on to the next recorded frame.
+     *
+     * @return true if there is another frame, false if the recording has ended
+     */
+    public boolean nextFrame() {
+        if (frame < recording.getFrameCount()) {
+            frame++;
+        }
+        return frame < recording.getFrameCount();
+    }
+
+    @Override
+    public boolean isDown(Keys key) {
+        return recording.isDown(frame, key);
+    }
+
+    @Override
+    public boolean wasPressed(Keys key) {
+        return recording.wasPressed(frame, key);
+    }
+
+    // getters
+    public int getFrame() {
+        return frame;
+    }
+}
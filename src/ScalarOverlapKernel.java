@@ -0,0 +1,21 @@
+/**
+ * Represents an OverlapKernel that tests the circles of a batch one at a time.
+ * It runs on any JVM and is the fallback when the Vector API is not available.
+ */
+public class ScalarOverlapKernel implements OverlapKernel {
+    @Override
+    public int findOverlaps(double x, double y, double radius, double[] xs, double[] ys, double[] radii,
+                            int count, boolean[] hits) {
+        int hitCount = 0;
+        for (int i = 0; i < count; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double reach = radii[i] + radius;
+            hits[i] = dx * dx + dy * dy < reach * reach;
+            if (hits[i]) {
+                hitCount++;
+            }
+        }
+        return hitCount;
+    }
+}
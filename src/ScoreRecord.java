@@ -0,0 +1,51 @@
+/**
+ * Represents a single score in the score store: who scored it, when, and how long their
+ * game lasted.
+ */
+public class ScoreRecord {
+    private final String name;
+    private final double score;
+    private final long timestamp;
+    private final int sessionFrames;
+
+    /**
+     * Constructs a ScoreRecord with the given details.
+     *
+     * @param name the player's name
+     * @param score the player's total earnings
+     * @param timestamp when the game ended, in milliseconds since the epoch, or 0 if unknown
+     * @param sessionFrames the number of frames the game lasted, or 0 if unknown
+     */
+    public ScoreRecord(String name, double score, long timestamp, int sessionFrames) {
+        this.name = name;
+        this.score = score;
+        this.timestamp = timestamp;
+        this.sessionFrames = sessionFrames;
+    }
+
+    /**
+     * Gets the text shown for the score on the leaderboard.
+     *
+     * @return the name and score in the form "NAME - 12.34"
+     */
+    public String getLine() {
+        return name + " - " + String.format("%.2f", score);
+    }
+
+    // getters
+    public String getName() {
+        return name;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getSessionFrames() {
+        return sessionFrames;
+    }
+}
@@ -0,0 +1,447 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Represents every score recorded in the game, stored in two memory-mapped binary files.
+ * The records file holds fixed-width records in the order they were added, each with a
+ * player's name, score, timestamp and session length. The index file holds record numbers
+ * ordered from highest to lowest score, split into pages of a few hundred entries that are
+ * linked in score order. A new score is placed by binary searching the pages and then the
+ * page it falls in, so an insert only touches one or two pages. The number of entries before
+ * each page is kept in a Fenwick tree, so ranks are found in logarithmic time, and top-N
+ * queries read the front of the index rather than every record.
+ * Scores that are equal keep the order in which they were added.
+ */
+public class ScoreStore implements Closeable {
+    // records file: a header, then one fixed-width record per score
+    private static final int RECORDS_MAGIC = 0x53545352;
+    private static final int RECORDS_HEADER_SIZE = 16;
+    private static final int RECORD_SIZE = 64;
+    private static final int SCORE_OFFSET = 0;
+    private static final int TIMESTAMP_OFFSET = 8;
+    private static final int SESSION_FRAMES_OFFSET = 16;
+    private static final int NAME_LENGTH_OFFSET = 20;
+    private static final int NAME_OFFSET = 22;
+    private static final int MAX_NAME_BYTES = RECORD_SIZE - NAME_OFFSET;
+
+    // index file: a header, then pages of record numbers, each page holding its size and the next page
+    private static final int INDEX_MAGIC = 0x53545349;
+    private static final int INDEX_HEADER_SIZE = 16;
+    private static final int INDEXED_OFFSET = 4;
+    private static final int PAGE_COUNT_OFFSET = 8;
+    private static final int FIRST_PAGE_OFFSET = 12;
+    private static final int PAGE_ENTRIES = 510;
+    private static final int PAGE_SIZE = 8 + 4 * PAGE_ENTRIES;
+    private static final int NO_PAGE = -1;
+
+    private static final int INITIAL_RECORDS = 1024;
+    private static final int INITIAL_PAGES = 4;
+    private static final String SCORE_SEPARATOR = " - ";
+
+    private final RandomAccessFile recordsFile;
+    private final RandomAccessFile indexFile;
+    private MappedByteBuffer records;
+    private MappedByteBuffer index;
+
+    private int count;
+    private int pageCount;
+    private int[] pageOrder;
+    // a Fenwick tree over the page order, counting the entries before each page
+    private int[] pageTree;
+
+    /**
+     * Opens the score store kept in the given files, creating the files if they do not exist.
+     * If any record was added but not indexed, for example because the game was closed part
+     * way through an insert, the index may have been left half updated, so it is rebuilt
+     * from every record.
+     *
+     * @param recordsPath the path to the records file
+     * @param indexPath the path to the index file
+     * @throws IOException if the files cannot be opened or are not a score store
+     */
+    public ScoreStore(String recordsPath, String indexPath) throws IOException {
+        recordsFile = new RandomAccessFile(recordsPath, "rw");
+        indexFile = new RandomAccessFile(indexPath, "rw");
+        boolean newRecords = recordsFile.length() == 0;
+        boolean newIndex = indexFile.length() == 0;
+
+        records = map(recordsFile, Math.max(recordsFile.length(),
+                RECORDS_HEADER_SIZE + (long) INITIAL_RECORDS * RECORD_SIZE));
+        index = map(indexFile, Math.max(indexFile.length(),
+                INDEX_HEADER_SIZE + (long) INITIAL_PAGES * PAGE_SIZE));
+
+        if (newRecords) {
+            records.putInt(0, RECORDS_MAGIC);
+            records.putInt(4, 0);
+        } else if (records.getInt(0) != RECORDS_MAGIC) {
+            close();
+            throw new IOException(recordsPath + " is not a score records file");
+        }
+        if (!newIndex && index.getInt(0) != INDEX_MAGIC) {
+            close();
+            throw new IOException(indexPath + " is not a score index file");
+        }
+
+        count = records.getInt(4);
+        // an insert only marks its record indexed once the index is consistent again
+        if (newIndex || index.getInt(INDEXED_OFFSET) != count) {
+            clearIndex();
+        }
+        loadPageOrder();
+
+        for (int id = index.getInt(INDEXED_OFFSET); id < count; id++) {
+            indexRecord(id);
+        }
+    }
+
+    /**
+     * Adds a score to the store.
+     *
+     * @param name the player's name, shortened if it does not fit in a record
+     * @param score the player's total earnings
+     * @param timestamp when the game ended, in milliseconds since the epoch
+     * @param sessionFrames the number of frames the game lasted
+     * @return the rank of the new score, where 1 is the highest
+     * @throws IOException if the store cannot grow to hold the score
+     */
+    public int insert(String name, double score, long timestamp, int sessionFrames) throws IOException {
+        ensureRecordCapacity(count + 1);
+
+        int offset = recordOffset(count);
+        byte[] nameBytes = encodeName(name);
+        records.putDouble(offset + SCORE_OFFSET, score);
+        records.putLong(offset + TIMESTAMP_OFFSET, timestamp);
+        records.putInt(offset + SESSION_FRAMES_OFFSET, sessionFrames);
+        records.putShort(offset + NAME_LENGTH_OFFSET, (short) nameBytes.length);
+        for (int i = 0; i < nameBytes.length; i++) {
+            records.put(offset + NAME_OFFSET + i, nameBytes[i]);
+        }
+
+        // the record is counted before it is indexed, so an interrupted insert rebuilds the index on the next open
+        count++;
+        records.putInt(4, count);
+        return indexRecord(count - 1);
+    }
+
+    /**
+     * Gets the highest scores in the store, from highest to lowest.
+     *
+     * @param n the largest number of scores to get
+     * @return the highest n scores, or every score if there are fewer than n
+     */
+    public ScoreRecord[] getTop(int n) {
+        ArrayList<ScoreRecord> top = new ArrayList<>(Math.min(n, count));
+        for (int i = 0; i < pageCount && top.size() < n; i++) {
+            int page = pageOrder[i];
+            for (int j = 0; j < entriesIn(page) && top.size() < n; j++) {
+                top.add(read(entryAt(page, j)));
+            }
+        }
+        return top.toArray(new ScoreRecord[0]);
+    }
+
+    /**
+     * Finds the rank a score would have in the store, that is one more than the number of
+     * scores that are strictly higher.
+     *
+     * @param score the score to rank
+     * @return the rank of the score, where 1 is the highest
+     */
+    public int getRank(double score) {
+        if (count == 0) {
+            return 1;
+        }
+        int orderIndex = findPage(score, false);
+        return entriesBefore(orderIndex) + findPosition(pageOrder[orderIndex], score, false) + 1;
+    }
+
+    /**
+     * Adds every score in a text scores file, where each line holds a name and a score
+     * separated by " - ". Lines without a score are skipped, and scores imported this way
+     * have no timestamp or session length.
+     *
+     * @param scoresFile the path to the scores file
+     * @return the number of scores imported
+     * @throws IOException if the scores file cannot be read or the store cannot grow to hold the scores
+     */
+    public int importCsv(String scoresFile) throws IOException {
+        int before = count;
+        try (CsvCursor line = new CsvCursor(scoresFile)) {
+            while (line.next()) {
+                // only the first column of the line holds the score
+                int separator = line.indexOf(0, SCORE_SEPARATOR, 0);
+                if (separator < 0) {
+                    continue;
+                }
+                int start = separator + SCORE_SEPARATOR.length();
+                int end = line.indexOf(0, SCORE_SEPARATOR, start);
+                try {
+                    double score = line.doubleAt(0, start, end < 0 ? line.getLength(0) : end);
+                    insert(line.stringAt(0, 0, separator), score, 0, 0);
+                } catch (NumberFormatException e) {
+                    // not a score line
+                }
+            }
+        }
+        return count - before;
+    }
+
+    /**
+     * Writes any changes to disk and closes the store's files.
+     *
+     * @throws IOException if the files cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        records.force();
+        index.force();
+        recordsFile.close();
+        indexFile.close();
+    }
+
+    // place a record in the index and return its rank
+    private int indexRecord(int id) throws IOException {
+        if (pageCount == 0) {
+            index.putInt(FIRST_PAGE_OFFSET, allocatePage());
+            pageOrder[0] = 0;
+            buildPageTree();
+        }
+
+        double score = scoreOf(id);
+        int orderIndex = findPage(score, true);
+        int page = pageOrder[orderIndex];
+        int position = findPosition(page, score, true);
+
+        if (entriesIn(page) == PAGE_ENTRIES) {
+            int newPage = splitPage(orderIndex);
+            if (position > PAGE_ENTRIES / 2) {
+                page = newPage;
+                orderIndex++;
+                position -= PAGE_ENTRIES / 2;
+            }
+            // pages after the split have moved along the page order
+            buildPageTree();
+        }
+
+        int entries = entriesIn(page);
+        for (int i = entries; i > position; i--) {
+            setEntry(page, i, entryAt(page, i - 1));
+        }
+        setEntry(page, position, id);
+        index.putInt(pageOffset(page), entries + 1);
+        index.putInt(INDEXED_OFFSET, id + 1);
+        for (int i = orderIndex + 1; i < pageTree.length; i += i & -i) {
+            pageTree[i]++;
+        }
+
+        return entriesBefore(orderIndex) + position + 1;
+    }
+
+    // find the page a score belongs in, the first whose lowest score is below it
+    private int findPage(double score, boolean afterEqual) {
+        int low = 0;
+        int high = pageCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int page = pageOrder[mid];
+            if (isBelow(scoreOf(entryAt(page, entriesIn(page) - 1)), score, afterEqual)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // find the position of a score in a page, before the first entry below it
+    private int findPosition(int page, double score, boolean afterEqual) {
+        int low = 0;
+        int high = entriesIn(page);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isBelow(scoreOf(entryAt(page, mid)), score, afterEqual)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    // equal scores are ranked after each other when inserting, and together when ranking
+    private boolean isBelow(double entryScore, double score, boolean afterEqual) {
+        return afterEqual ? entryScore < score : entryScore <= score;
+    }
+
+    // move the upper half of a full page into a new page that follows it
+    private int splitPage(int orderIndex) throws IOException {
+        int page = pageOrder[orderIndex];
+        int newPage = allocatePage();
+        int half = PAGE_ENTRIES / 2;
+
+        for (int i = half; i < PAGE_ENTRIES; i++) {
+            setEntry(newPage, i - half, entryAt(page, i));
+        }
+        index.putInt(pageOffset(newPage), PAGE_ENTRIES - half);
+        index.putInt(pageOffset(page), half);
+
+        index.putInt(pageOffset(newPage) + 4, index.getInt(pageOffset(page) + 4));
+        index.putInt(pageOffset(page) + 4, newPage);
+
+        System.arraycopy(pageOrder, orderIndex + 1, pageOrder, orderIndex + 2, pageCount - orderIndex - 2);
+        pageOrder[orderIndex + 1] = newPage;
+        return newPage;
+    }
+
+    // add an empty page to the end of the index file
+    private int allocatePage() throws IOException {
+        long needed = INDEX_HEADER_SIZE + (long) (pageCount + 1) * PAGE_SIZE;
+        if (needed > index.capacity()) {
+            index = map(indexFile, grow(index.capacity(), needed));
+        }
+        if (pageCount == pageOrder.length) {
+            int[] grown = new int[pageOrder.length * 2];
+            System.arraycopy(pageOrder, 0, grown, 0, pageCount);
+            pageOrder = grown;
+        }
+
+        int page = pageCount;
+        index.putInt(pageOffset(page), 0);
+        index.putInt(pageOffset(page) + 4, NO_PAGE);
+        pageCount++;
+        index.putInt(PAGE_COUNT_OFFSET, pageCount);
+        return page;
+    }
+
+    // empty the index so every record is indexed again
+    private void clearIndex() {
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(INDEXED_OFFSET, 0);
+        index.putInt(PAGE_COUNT_OFFSET, 0);
+        index.putInt(FIRST_PAGE_OFFSET, NO_PAGE);
+    }
+
+    // follow the links between pages to find their score order
+    private void loadPageOrder() {
+        pageCount = index.getInt(PAGE_COUNT_OFFSET);
+        pageOrder = new int[Math.max(INITIAL_PAGES, pageCount)];
+
+        int page = index.getInt(FIRST_PAGE_OFFSET);
+        for (int i = 0; i < pageCount; i++) {
+            pageOrder[i] = page;
+            page = index.getInt(pageOffset(page) + 4);
+        }
+        buildPageTree();
+    }
+
+    // count the entries in each page of the page order into the Fenwick tree
+    private void buildPageTree() {
+        pageTree = new int[pageOrder.length + 1];
+        for (int i = 1; i <= pageCount; i++) {
+            pageTree[i] += entriesIn(pageOrder[i - 1]);
+            int parent = i + (i & -i);
+            if (parent < pageTree.length) {
+                pageTree[parent] += pageTree[i];
+            }
+        }
+    }
+
+    // count the entries in the pages before a position in the page order
+    private int entriesBefore(int orderIndex) {
+        int entries = 0;
+        for (int i = orderIndex; i > 0; i -= i & -i) {
+            entries += pageTree[i];
+        }
+        return entries;
+    }
+
+    private void ensureRecordCapacity(int recordCount) throws IOException {
+        long needed = RECORDS_HEADER_SIZE + (long) recordCount * RECORD_SIZE;
+        if (needed > records.capacity()) {
+            records = map(recordsFile, grow(records.capacity(), needed));
+        }
+    }
+
+    // double a file's mapped size until it holds what is needed, within the limit of one mapping
+    private static long grow(long size, long needed) throws IOException {
+        if (needed > Integer.MAX_VALUE) {
+            throw new IOException("score store is full");
+        }
+        return Math.min(Math.max(size * 2, needed), Integer.MAX_VALUE);
+    }
+
+    private static MappedByteBuffer map(RandomAccessFile file, long size) throws IOException {
+        return file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    // shorten a name until it fits in a record, without splitting a character
+    private static byte[] encodeName(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        while (bytes.length > MAX_NAME_BYTES) {
+            name = name.substring(0, name.length() - 1);
+            bytes = name.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    private ScoreRecord read(int id) {
+        int offset = recordOffset(id);
+        byte[] nameBytes = new byte[records.getShort(offset + NAME_LENGTH_OFFSET)];
+        for (int i = 0; i < nameBytes.length; i++) {
+            nameBytes[i] = records.get(offset + NAME_OFFSET + i);
+        }
+        return new ScoreRecord(new String(nameBytes, StandardCharsets.UTF_8),
+                records.getDouble(offset + SCORE_OFFSET),
+                records.getLong(offset + TIMESTAMP_OFFSET),
+                records.getInt(offset + SESSION_FRAMES_OFFSET));
+    }
+
+    private double scoreOf(int id) {
+        return records.getDouble(recordOffset(id) + SCORE_OFFSET);
+    }
+
+    private int entriesIn(int page) {
+        return index.getInt(pageOffset(page));
+    }
+
+    private int entryAt(int page, int position) {
+        return index.getInt(pageOffset(page) + 8 + 4 * position);
+    }
+
+    private void setEntry(int page, int position, int id) {
+        index.putInt(pageOffset(page) + 8 + 4 * position, id);
+    }
+
+    private static int recordOffset(int id) {
+        return RECORDS_HEADER_SIZE + id * RECORD_SIZE;
+    }
+
+    private static int pageOffset(int page) {
+        return INDEX_HEADER_SIZE + page * PAGE_SIZE;
+    }
+
+    // getters
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Imports a text scores file into a score store, creating the store if needed.
+     * Takes the scores file, the records file and the index file as arguments.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            System.err.println("usage: ScoreStore <scores.csv> <records file> <index file>");
+            System.exit(1);
+        }
+
+        try (ScoreStore store = new ScoreStore(args[1], args[2])) {
+            System.out.printf("imported %d scores, %d in store%n", store.importCsv(args[0]), store.getCount());
+        }
+    }
+}
@@ -1,4 +1,6 @@
 import bagel.*;
+
+import java.io.IOException;
 import java.util.Properties;
 
 /**
@@ -13,12 +15,24 @@ public class ShadowTaxi extends AbstractGame {
     private PlayerInformationScreen playerInformationScreen;
     private GamePlayScreen gamePlayScreen;
     private GameEndScreen gameEndScreen;
+    private final BagelInput gameInput = new BagelInput();
     private final int HOME_SCREEN = 1;
     private final int PLAYER_INFORMATION_SCREEN = 2;
     private final int GAME_PLAY_SCREEN = 3;
     private final int GAME_END_SCREEN = 4;
     private int gameState = 1;
 
+    // the simulation runs in ticks of a fixed length, however often frames are drawn
+    private final double TICK_SECONDS;
+    private final int MAX_TICKS_PER_FRAME = 5;
+    private final double NANOS_PER_SECOND = 1e9;
+    private long lastFrameTime = -1;
+    private double unsimulatedTime = 0;
+
+    private String recordingPath;
+    private InputRecording recording;
+    private ReplayInput replayInput;
+
     public ShadowTaxi(Properties gameProps, Properties messageProps) {
         super(Integer.parseInt(gameProps.getProperty("window.width")),
                 Integer.parseInt(gameProps.getProperty("window.height")),
@@ -26,6 +40,7 @@ public class ShadowTaxi extends AbstractGame {
 
         this.GAME_PROPS = gameProps;
         this.MESSAGE_PROPS = messageProps;
+        TICK_SECONDS = 1.0 / Integer.parseInt(GAME_PROPS.getProperty("gamePlay.ticksPerSecond"));
 
         //initialize screen variables
         homeScreen = new HomeScreen(GAME_PROPS, MESSAGE_PROPS);
@@ -43,6 +58,12 @@ public class ShadowTaxi extends AbstractGame {
     protected void update(Input input) {
 
         if (input.wasPressed(Keys.ESCAPE)){
+            if (gameState == GAME_PLAY_SCREEN) {
+                gamePlayScreen.writeProfile();
+                if (recording != null) {
+                    saveRecording();
+                }
+            }
             Window.close();
         }
 
@@ -57,36 +78,150 @@ public class ShadowTaxi extends AbstractGame {
             playerInformationScreen.handleInput(input);
 
             if (input.wasPressed(Keys.ENTER)) {
-                gameState = GAME_PLAY_SCREEN;
+                startGamePlay();
             }
         } else if (gameState == GAME_PLAY_SCREEN) {
-            gamePlayScreen.render(input);
-            gamePlayScreen.handleInput(input);
+            gameInput.setInput(input);
+
+            // the frame timing overlay is toggled from the window, even during a replay
+            if (input.wasPressed(Keys.F3)) {
+                gamePlayScreen.getProfiler().toggleOverlay();
+            }
+
+            // the profiler times each drawn frame, with every tick it runs
+            FrameProfiler profiler = gamePlayScreen.getProfiler();
+            profiler.beginFrame();
+
+            // run as many ticks as the time since the last frame calls for, the first frame runs one
+            long now = System.nanoTime();
+            unsimulatedTime += lastFrameTime < 0 ? TICK_SECONDS : (now - lastFrameTime) / NANOS_PER_SECOND;
+            lastFrameTime = now;
+            int ticks = 0;
+            while (unsimulatedTime >= TICK_SECONDS && ticks < MAX_TICKS_PER_FRAME
+                    && !gamePlayScreen.isGameWon() && !gamePlayScreen.isGameLost()) {
+                if (!tick()) {
+                    Window.close();
+                    return;
+                }
+                unsimulatedTime -= TICK_SECONDS;
+                ticks++;
+            }
+            if (unsimulatedTime >= TICK_SECONDS) {
+                // too far behind to catch up, so let the game slow down rather than stall
+                unsimulatedTime %= TICK_SECONDS;
+            }
+
+            gamePlayScreen.draw(unsimulatedTime / TICK_SECONDS);
+            profiler.endFrame();
 
             if (gamePlayScreen.isGameWon() || gamePlayScreen.isGameLost()) {
+                gamePlayScreen.writeProfile();
+                if (recording != null) {
+                    saveRecording();
+                }
+                if (replayInput != null) {
+                    System.out.printf("replay ended after %d ticks with total pay %.2f%n",
+                            replayInput.getFrame() + 1, gamePlayScreen.getTotalPay());
+                    Window.close();
+                    return;
+                }
                 gameState = 4;
             }
         } else if (gameState == GAME_END_SCREEN) {
             gameEndScreen.setPlayerName(playerInformationScreen.getPlayerName());
             gameEndScreen.setFinalScore(gamePlayScreen.getTotalPay());
+            gameEndScreen.setSessionFrames(gamePlayScreen.getFramesPlayed());
             gameEndScreen.setWonGame(gamePlayScreen.isGameWon());
             gameEndScreen.render();
 
             if (input.wasPressed(Keys.SPACE)) {
                 //restart the game
+                gamePlayScreen.release();
                 playerInformationScreen = new PlayerInformationScreen(GAME_PROPS, MESSAGE_PROPS);
                 gamePlayScreen = new GamePlayScreen(GAME_PROPS, MESSAGE_PROPS);
                 gameEndScreen = new GameEndScreen(GAME_PROPS, MESSAGE_PROPS);
+                // drop the textures of the last game that the new screens do not use
+                TextureRegistry.trim();
+                if (recordingPath != null) {
+                    recording = new InputRecording(gamePlayScreen.getRandom().getSeed());
+                }
 
                 gameState = HOME_SCREEN;
             }
         }
     }
 
-    public static void main(String[] args) {
+    // advance the game by one tick, returning false once a replay has run out of recorded ticks
+    private boolean tick() {
+        InputSource tickInput = gameInput;
+        if (replayInput != null) {
+            if (!replayInput.nextFrame()) {
+                return false;
+            }
+            tickInput = replayInput;
+        } else if (recording != null) {
+            recording.recordFrame(gameInput);
+        }
+
+        gamePlayScreen.update(tickInput);
+        gamePlayScreen.handleInput(tickInput);
+        gameInput.endTick();
+        return true;
+    }
+
+    // switch to the game play screen with no simulation time owed from earlier screens
+    private void startGamePlay() {
+        lastFrameTime = -1;
+        unsimulatedTime = 0;
+        gameState = GAME_PLAY_SCREEN;
+    }
+
+    /**
+     * Records the input of each game played to a file, so that it can be replayed.
+     * Each game overwrites the recording of the game before it.
+     * @param path The path of the recording file.
+     */
+    public void recordTo(String path) {
+        recordingPath = path;
+        recording = new InputRecording(gamePlayScreen.getRandom().getSeed());
+    }
+
+    /**
+     * Plays a recorded game in the window instead of the player's input, starting straight
+     * from the game play screen. The window closes when the replay ends.
+     * @param recording The recording to play.
+     */
+    public void replay(InputRecording recording) {
+        gamePlayScreen.release();
+        gamePlayScreen = new GamePlayScreen(GAME_PROPS, MESSAGE_PROPS, new RandomService(recording.getSeed()));
+        TextureRegistry.trim();
+        replayInput = new ReplayInput(recording);
+        startGamePlay();
+    }
+
+    // write the recording of the current game, with the total pay it reached
+    private void saveRecording() {
+        recording.setFinalPay(gamePlayScreen.getTotalPay());
+        try {
+            recording.save(recordingPath);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Runs the game. Pass "--record FILE" to record each game's input to a file,
+     * or "--replay FILE" to play a recording back in the window.
+     */
+    public static void main(String[] args) throws IOException {
         Properties game_props = IOUtils.readPropertiesFile("res/app.properties");
         Properties message_props = IOUtils.readPropertiesFile("res/message_en.properties");
         ShadowTaxi game = new ShadowTaxi(game_props, message_props);
+        if (args.length == 2 && args[0].equals("--record")) {
+            game.recordTo(args[1]);
+        } else if (args.length == 2 && args[0].equals("--replay")) {
+            game.replay(InputRecording.load(args[1]));
+        }
         game.run();
     }
 }
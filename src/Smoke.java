@@ -1,5 +1,3 @@
-import bagel.Image;
-import bagel.Input;
 import bagel.Keys;
 
 import java.util.Properties;
@@ -11,7 +9,7 @@ import java.util.Properties;
  */
 public class Smoke extends Effect {
     private final Properties GAME_PROPS;
-    private final Image SMOKE_IMAGE;
+    private final Sprite SMOKE_IMAGE;
 
     /**
      * Constructs a Smoke object with specified properties, position, and frame settings.
@@ -22,24 +20,21 @@ public class Smoke extends Effect {
      */
     public Smoke(Properties gameProps, double XPos, double YPos) {
         this.GAME_PROPS = gameProps;
-        setXPos(XPos);
-        setYPos(YPos);
-        SMOKE_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.smoke.image"));
-        setFrames(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.smoke.ttl")));
+        SMOKE_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.smoke.image"));
+        setTTL(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.smoke.ttl")));
         setSCREEN_SPEED(Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY")));
+        reset(XPos, YPos);
     }
 
     /**
-     * Renders the smoke on the screen and updates its position based on user input.
+     * Updates the smoke's position based on user input.
      * Decreases frame count as the smoke persists.
      *
      * @param input the user input to determine movement direction
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
     @Override
-    public void render(Input input, boolean driverInTaxi) {
-        SMOKE_IMAGE.draw(getXPos(), getYPos());
-
+    public void update(InputSource input, boolean driverInTaxi) {
         if (input.isDown(Keys.UP) && driverInTaxi) {
             setYPos(getYPos() + getSCREEN_SPEED());
         } else if (input.isDown(Keys.UP) && !driverInTaxi) {
@@ -52,4 +47,22 @@ public class Smoke extends Effect {
             setFrames(getFrames() - 1);
         }
     }
+
+    /**
+     * Draws the smoke on the screen.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    @Override
+    public void draw(double alpha) {
+        SMOKE_IMAGE.draw(getXPos(), getDrawY(alpha));
+    }
+
+    /**
+     * Releases the smoke's texture once it has finished.
+     */
+    @Override
+    public void release() {
+        SMOKE_IMAGE.release();
+    }
 }
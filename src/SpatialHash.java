@@ -0,0 +1,138 @@
+import java.util.Arrays;
+
+/**
+ * Represents a uniform grid that buckets game objects by the cell their centre falls in.
+ * Collision passes rebuild the grid each frame and then only test the objects found in
+ * the cells around a query circle, instead of testing every pair of objects.
+ * Objects are registered with a kind and their index in the list they belong to, and
+ * queries return the indices of one kind in ascending order, so that callers visit
+ * candidates in the same order as a full scan of that list.
+ */
+public class SpatialHash {
+    public static final int PASSENGER = 0;
+
+    private final double CELL_SIZE;
+    private int[] bucketHeads = new int[64];
+
+    // entries are stored as parallel arrays chained per bucket
+    private int[] entryKinds = new int[64];
+    private int[] entryIndices = new int[64];
+    private int[] entryCellXs = new int[64];
+    private int[] entryCellYs = new int[64];
+    private int[] entryNexts = new int[64];
+    private int entryCount = 0;
+    private double maxRadius = 0;
+
+    /**
+     * Constructs an empty SpatialHash.
+     *
+     * @param cellSize the width and height of each grid cell, ideally the largest collision diameter
+     */
+    public SpatialHash(double cellSize) {
+        this.CELL_SIZE = cellSize;
+        Arrays.fill(bucketHeads, -1);
+    }
+
+    /**
+     * Removes every object from the grid, ready for it to be rebuilt.
+     */
+    public void clear() {
+        Arrays.fill(bucketHeads, -1);
+        entryCount = 0;
+        maxRadius = 0;
+    }
+
+    /**
+     * Registers an object in the cell containing its centre.
+     *
+     * @param kind the kind of object, one of the constants of this class
+     * @param index the index of the object in the list it belongs to
+     * @param x the X position of the object
+     * @param y the Y position of the object
+     * @param radius the collision radius of the object
+     */
+    public void insert(int kind, int index, double x, double y, double radius) {
+        if (entryCount == entryKinds.length) {
+            grow();
+        }
+
+        int cellX = cellOf(x);
+        int cellY = cellOf(y);
+        int bucket = bucketOf(cellX, cellY);
+
+        entryKinds[entryCount] = kind;
+        entryIndices[entryCount] = index;
+        entryCellXs[entryCount] = cellX;
+        entryCellYs[entryCount] = cellY;
+        entryNexts[entryCount] = bucketHeads[bucket];
+        bucketHeads[bucket] = entryCount;
+        entryCount++;
+
+        if (radius > maxRadius) {
+            maxRadius = radius;
+        }
+    }
+
+    /**
+     * Finds the objects of a kind that might overlap a circle. Every object that does overlap
+     * the circle is returned, along with some nearby objects that do not.
+     *
+     * @param kind the kind of object to look for
+     * @param x the X position of the circle
+     * @param y the Y position of the circle
+     * @param radius the radius of the circle
+     * @param result the list to fill with the candidate indices, in ascending order
+     */
+    public void query(int kind, double x, double y, double radius, IndexList result) {
+        result.clear();
+
+        double reach = radius + maxRadius;
+        int minCellX = cellOf(x - reach);
+        int maxCellX = cellOf(x + reach);
+        int minCellY = cellOf(y - reach);
+        int maxCellY = cellOf(y + reach);
+
+        for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+            for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                int entry = bucketHeads[bucketOf(cellX, cellY)];
+                while (entry != -1) {
+                    if (entryKinds[entry] == kind && entryCellXs[entry] == cellX && entryCellYs[entry] == cellY) {
+                        result.add(entryIndices[entry]);
+                    }
+                    entry = entryNexts[entry];
+                }
+            }
+        }
+
+        result.sort();
+    }
+
+    // find the cell a coordinate falls in
+    private int cellOf(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    // find the bucket a cell is chained in
+    private int bucketOf(int cellX, int cellY) {
+        int hash = (cellX * 73856093) ^ (cellY * 19349663);
+        return hash & (bucketHeads.length - 1);
+    }
+
+    // double the entry storage and rehash into twice as many buckets
+    private void grow() {
+        int capacity = entryKinds.length * 2;
+        entryKinds = Arrays.copyOf(entryKinds, capacity);
+        entryIndices = Arrays.copyOf(entryIndices, capacity);
+        entryCellXs = Arrays.copyOf(entryCellXs, capacity);
+        entryCellYs = Arrays.copyOf(entryCellYs, capacity);
+        entryNexts = Arrays.copyOf(entryNexts, capacity);
+
+        bucketHeads = new int[capacity];
+        Arrays.fill(bucketHeads, -1);
+        for (int entry = 0; entry < entryCount; entry++) {
+            int bucket = bucketOf(entryCellXs[entry], entryCellYs[entry]);
+            entryNexts[entry] = bucketHeads[bucket];
+            bucketHeads[bucket] = entry;
+        }
+    }
+}
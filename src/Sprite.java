@@ -0,0 +1,51 @@
+import bagel.Image;
+
+/**
+ * Represents an image drawn by a game object. The texture is shared through the
+ * TextureRegistry and is only loaded the first time it is drawn, so game objects can
+ * be created and simulated without an OpenGL window.
+ */
+public class Sprite {
+    private final String IMAGE_PATH;
+    private Image image;
+    private boolean released = false;
+
+    /**
+     * Constructs a Sprite for the image at the given path, referencing its shared texture.
+     *
+     * @param imagePath the path of the image file
+     */
+    public Sprite(String imagePath) {
+        this.IMAGE_PATH = imagePath;
+        TextureRegistry.acquire(IMAGE_PATH);
+    }
+
+    /**
+     * Draws the image centred at the given position, loading the texture if needed.
+     *
+     * @param x the X coordinate to draw at
+     * @param y the Y coordinate to draw at
+     */
+    public void draw(double x, double y) {
+        if (image == null) {
+            image = TextureRegistry.getImage(IMAGE_PATH);
+        }
+        image.draw(x, y);
+    }
+
+    /**
+     * Releases this sprite's reference to its shared texture once it is no longer drawn.
+     */
+    public void release() {
+        if (!released) {
+            TextureRegistry.release(IMAGE_PATH);
+            image = null;
+            released = true;
+        }
+    }
+
+    // getters
+    public String getImagePath() {
+        return IMAGE_PATH;
+    }
+}
@@ -1,5 +1,3 @@
-import bagel.Image;
-import bagel.Input;
 import bagel.Keys;
 
 import java.util.Properties;
@@ -10,36 +8,32 @@ import java.util.Properties;
  * and collision detection.
  */
 public class Star extends PowerUp{
-    private final Image STAR_IMAGE;
+    private final Sprite STAR_IMAGE;
 
     /**
      * Constructs a Star object with specified properties and initial position.
      *
      * @param gameProps the game properties containing image and speed settings
+     * @param radii the collision radii of every kind of object
      * @param starX the initial X coordinate of the star
      * @param starY the initial Y coordinate of the star
      */
-    public Star(Properties gameProps, double starX, double starY) {
+    public Star(Properties gameProps, CollisionRadii radii, double starX, double starY) {
         // set coin properties
-        STAR_IMAGE = new Image(gameProps.getProperty("gameObjects.invinciblePower.image"));
+        STAR_IMAGE = new Sprite(gameProps.getProperty("gameObjects.invinciblePower.image"));
         setXPos(starX);
         setYPos(starY);
         setSCREEN_SPEED(Integer.parseInt(gameProps.getProperty("gameObjects.taxi.speedY")));
-        setTAXI_RADIUS(gameProps.getProperty("gameObjects.taxi.radius"));
-        setPOWER_UP_RADIUS(gameProps.getProperty("gameObjects.coin.radius"));
+        setREACH_SQUARED(radii.getReachSquared(CollisionRadii.TAXI, CollisionRadii.STAR));
     }
 
     /**
-     * Renders the star on the screen if it hasn't collided and updates its position
-     * based on user input.
+     * Updates the star's position based on user input.
      *
      * @param input the user input to determine movement direction
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
-    public void render(Input input, boolean driverInTaxi) {
-        if (!isHasCollided()) {
-            STAR_IMAGE.draw(getXPos(), getYPos());
-        }
+    public void update(InputSource input, boolean driverInTaxi) {
         if (input.isDown(Keys.UP) && driverInTaxi) {
             setYPos(getYPos() + getSCREEN_SPEED());
         } else if (input.isDown(Keys.UP) && !driverInTaxi) {
@@ -48,4 +42,22 @@ public class Star extends PowerUp{
             setYPos(getYPos() - 1);
         }
     }
+
+    /**
+     * Draws the star on the screen if it hasn't collided.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        if (!isHasCollided()) {
+            STAR_IMAGE.draw(getXPos(), getDrawY(alpha));
+        }
+    }
+
+    /**
+     * Releases the star's texture once it has been removed from the game.
+     */
+    public void release() {
+        STAR_IMAGE.release();
+    }
 }
@@ -0,0 +1,57 @@
+import bagel.Keys;
+
+import java.util.EnumSet;
+
+/**
+ * Represents keyboard input that is set by code instead of read from a window.
+ * Keys stay down until they are released, and a press is only reported by wasPressed
+ * for the frame in which it happened.
+ */
+public class SyntheticInput implements InputSource {
+    private final EnumSet<Keys> keysDown = EnumSet.noneOf(Keys.class);
+    private final EnumSet<Keys> keysPressed = EnumSet.noneOf(Keys.class);
+
+    /**
+     * Holds a key down, reporting it as pressed if it was not already down.
+     *
+     * @param key the key to hold down
+     */
+    public void press(Keys key) {
+        if (keysDown.add(key)) {
+            keysPressed.add(key);
+        }
+    }
+
+    /**
+     * Releases a key that is being held down.
+     *
+     * @param key the key to release
+     */
+    public void release(Keys key) {
+        keysDown.remove(key);
+    }
+
+    /**
+     * Releases every key that is being held down.
+     */
+    public void releaseAll() {
+        keysDown.clear();
+    }
+
+    /**
+     * Ends the current frame, clearing the keys reported by wasPressed.
+     */
+    public void endFrame() {
+        keysPressed.clear();
+    }
+
+    @Override
+    public boolean isDown(Keys key) {
+        return keysDown.contains(key);
+    }
+
+    @Override
+    public boolean wasPressed(Keys key) {
+        return keysPressed.contains(key);
+    }
+}
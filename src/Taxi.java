@@ -9,10 +9,12 @@ import java.util.Properties;
 public class Taxi implements Collidable{
     private final Properties GAME_PROPS;
 
-    private final Image TAXI_IMAGE;
-    private final Image TAXI_DAMAGED_IMAGE;
+    private final Sprite TAXI_IMAGE;
+    private final Sprite TAXI_DAMAGED_IMAGE;
     private double taxiX;
     private double taxiY;
+    private double previousTaxiX;
+    private double previousTaxiY;
     private final int TAXI_SPEED_X;
     private final int TAXI_SPEED_Y;
     private final double TAXI_RADIUS;
@@ -36,10 +38,11 @@ public class Taxi implements Collidable{
         this.GAME_PROPS = gameProps;
 
         // set taxi properties
-        TAXI_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.taxi.image"));
-        TAXI_DAMAGED_IMAGE = new Image(GAME_PROPS.getProperty("gameObjects.taxi.damagedImage"));
+        TAXI_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.taxi.image"));
+        TAXI_DAMAGED_IMAGE = new Sprite(GAME_PROPS.getProperty("gameObjects.taxi.damagedImage"));
         this.taxiX = taxiX;
         this.taxiY = taxiY;
+        savePosition();
         TAXI_SPEED_X = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedX"));
         TAXI_SPEED_Y = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.taxi.speedY"));
         TAXI_RADIUS = Double.parseDouble(GAME_PROPS.getProperty("gameObjects.taxi.radius"));
@@ -48,15 +51,14 @@ public class Taxi implements Collidable{
     }
 
     /**
-     * Renders the taxi on the screen based on its current state (damaged or not)
-     * and updates its position based on user input.
+     * Updates the taxi's position based on user input and its current state
+     * (damaged or not).
      *
      * @param input the user input to determine movement direction
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
-    public void render(Input input, boolean driverInTaxi) {
+    public void update(InputSource input, boolean driverInTaxi) {
         if (!damaged) {
-            TAXI_IMAGE.draw(taxiX, taxiY);
             if (driverInTaxi) {
                 if (input.isDown(Keys.LEFT)) {
                     taxiX -= TAXI_SPEED_X;
@@ -71,7 +73,6 @@ public class Taxi implements Collidable{
                 }
             }
         } else {
-            TAXI_DAMAGED_IMAGE.draw(taxiX, taxiY);
             if (driverInTaxi) {
                 if (input.isDown(Keys.UP)) {
                     taxiY += TAXI_SPEED_Y;
@@ -86,6 +87,38 @@ public class Taxi implements Collidable{
         }
     }
 
+    /**
+     * Remembers the taxi's position at the start of a tick, so that frames drawn before the
+     * next tick can be placed between where the taxi was and where it is.
+     */
+    public void savePosition() {
+        previousTaxiX = taxiX;
+        previousTaxiY = taxiY;
+    }
+
+    /**
+     * Draws the taxi on the screen based on its current state (damaged or not).
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        double drawX = MiscUtils.interpolate(previousTaxiX, taxiX, alpha);
+        double drawY = MiscUtils.interpolate(previousTaxiY, taxiY, alpha);
+        if (!damaged) {
+            TAXI_IMAGE.draw(drawX, drawY);
+        } else {
+            TAXI_DAMAGED_IMAGE.draw(drawX, drawY);
+        }
+    }
+
+    /**
+     * Releases the taxi's textures once it has been removed from the game.
+     */
+    public void release() {
+        TAXI_IMAGE.release();
+        TAXI_DAMAGED_IMAGE.release();
+    }
+
     /**
      * Checks if the taxi has collided with another object based on its position
      * and radius.
@@ -97,13 +130,10 @@ public class Taxi implements Collidable{
      */
     @Override
     public boolean hasCollided(double XPos, double YPos, double radius) {
-        double distance = Math.sqrt(Math.pow((XPos - taxiX), 2) + Math.pow((YPos - taxiY), 2));
-
-        if (distance < TAXI_RADIUS + radius) {
-            return true;
-        }
-
-        return false;
+        double dx = XPos - taxiX;
+        double dy = YPos - taxiY;
+        double reach = TAXI_RADIUS + radius;
+        return dx * dx + dy * dy < reach * reach;
     }
 
     // getters ans setters
@@ -147,6 +177,11 @@ public class Taxi implements Collidable{
         return TAXI_RADIUS;
     }
 
+    @Override
+    public double getRadius() {
+        return TAXI_RADIUS;
+    }
+
     public void setLastCollidedCar(Car lastCollidedCar) {
         this.lastCollidedCar = lastCollidedCar;
     }
@@ -0,0 +1,110 @@
+import bagel.Image;
+
+import java.util.HashMap;
+
+/**
+ * A process-wide registry of the textures used by the game, keyed by resource path.
+ * Each texture is loaded once, the first time any Sprite using it is drawn, and is then
+ * shared by every Sprite with the same path. The registry counts how many live sprites
+ * reference each texture, so that textures nothing refers to any more can be trimmed.
+ */
+public class TextureRegistry {
+    private static final HashMap<String, Texture> textures = new HashMap<>();
+    private static long hits = 0;
+    private static long loads = 0;
+
+    // a texture and the number of live sprites that reference it
+    private static class Texture {
+        private Image image;
+        private int references;
+    }
+
+    /**
+     * Records a new reference to the texture at the given path, without loading it.
+     *
+     * @param path the path of the image file
+     */
+    public static void acquire(String path) {
+        textures.computeIfAbsent(path, key -> new Texture()).references++;
+    }
+
+    /**
+     * Removes a reference to the texture at the given path. The texture stays resident
+     * until trim is called, since most textures are needed again soon after.
+     *
+     * @param path the path of the image file
+     */
+    public static void release(String path) {
+        Texture texture = textures.get(path);
+        if (texture != null && texture.references > 0) {
+            texture.references--;
+        }
+    }
+
+    /**
+     * Gets the image for the texture at the given path, loading it if it is not resident.
+     *
+     * @param path the path of the image file
+     * @return the shared image
+     */
+    public static Image getImage(String path) {
+        Texture texture = textures.computeIfAbsent(path, key -> new Texture());
+        if (texture.image == null) {
+            texture.image = new Image(path);
+            loads++;
+        } else {
+            hits++;
+        }
+        return texture.image;
+    }
+
+    /**
+     * Drops every texture that no live sprite references. Called when a game is restarted,
+     * once the screens of the new game have been built and hold their references.
+     */
+    public static void trim() {
+        textures.values().removeIf(texture -> texture.references == 0);
+    }
+
+    /**
+     * Describes how well the registry is doing, for logging and debug overlays.
+     *
+     * @return a one line summary of the registry's statistics
+     */
+    public static String getStats() {
+        return String.format("textures: %d resident, %d references, %d hits, %d loads",
+                getResidentTextures(), getReferences(), hits, loads);
+    }
+
+    // getters
+    public static long getHits() {
+        return hits;
+    }
+
+    public static long getLoads() {
+        return loads;
+    }
+
+    public static int getResidentTextures() {
+        int resident = 0;
+        for (Texture texture : textures.values()) {
+            if (texture.image != null) {
+                resident++;
+            }
+        }
+        return resident;
+    }
+
+    public static int getReferences() {
+        int references = 0;
+        for (Texture texture : textures.values()) {
+            references += texture.references;
+        }
+        return references;
+    }
+
+    public static int getReferences(String path) {
+        Texture texture = textures.get(path);
+        return texture == null ? 0 : texture.references;
+    }
+}
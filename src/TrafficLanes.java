@@ -0,0 +1,131 @@
+import java.util.ArrayList;
+
+/**
+ * Represents an index of cars bucketed by road lane and kept sorted by Y position.
+ * Cars only ever move along Y in the lane they spawned in, so the lanes stay nearly
+ * sorted between frames and are re-sorted incrementally with an insertion sort.
+ * Collision queries then only look at a circle's neighbours in the lanes it reaches.
+ *
+ * @param <T> the type of car held in the lanes
+ */
+public class TrafficLanes<T extends Car> {
+    private final int[] LANE_CENTERS;
+    private final ArrayList<ArrayList<T>> lanes;
+    private double maxRadius = 0;
+
+    /**
+     * Constructs an empty TrafficLanes index for the given road lanes.
+     *
+     * @param laneCenters the X position of the centre of each road lane
+     */
+    public TrafficLanes(int... laneCenters) {
+        this.LANE_CENTERS = laneCenters;
+        this.lanes = new ArrayList<>();
+        for (int i = 0; i < laneCenters.length; i++) {
+            lanes.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Adds a newly spawned car to the lane it is driving in.
+     *
+     * @param car the car to add
+     */
+    public void add(T car) {
+        ArrayList<T> lane = lanes.get(laneOf(car.getXPos()));
+        lane.add(lowerBound(lane, car.getYPos()), car);
+
+        if (car.getCAR_RADIUS() > maxRadius) {
+            maxRadius = car.getCAR_RADIUS();
+        }
+    }
+
+    /**
+     * Brings the index up to date with the list of cars after they have moved. Cars that are
+     * no longer in the list are dropped, every car is given its index in the list, and each
+     * lane is re-sorted by Y.
+     *
+     * @param cars the list of cars that the index holds
+     */
+    public void update(ArrayList<T> cars) {
+        for (ArrayList<T> lane : lanes) {
+            for (T car : lane) {
+                car.setTrafficIndex(-1);
+            }
+        }
+        for (int i = 0; i < cars.size(); i++) {
+            cars.get(i).setTrafficIndex(i);
+        }
+
+        for (ArrayList<T> lane : lanes) {
+            lane.removeIf(car -> car.getTrafficIndex() < 0);
+            sortByY(lane);
+        }
+    }
+
+    /**
+     * Finds the cars that might overlap a circle. Every car that does overlap the circle is
+     * returned, along with some cars in the same lanes that do not.
+     *
+     * @param x the X position of the circle
+     * @param y the Y position of the circle
+     * @param radius the radius of the circle
+     * @param result the list to fill with the candidates' indices in the car list, in ascending order
+     */
+    public void query(double x, double y, double radius, IndexList result) {
+        result.clear();
+
+        double reach = radius + maxRadius;
+        for (int i = 0; i < LANE_CENTERS.length; i++) {
+            if (Math.abs(LANE_CENTERS[i] - x) > reach) {
+                continue;
+            }
+
+            ArrayList<T> lane = lanes.get(i);
+            for (int j = lowerBound(lane, y - reach); j < lane.size() && lane.get(j).getYPos() <= y + reach; j++) {
+                result.add(lane.get(j).getTrafficIndex());
+            }
+        }
+
+        result.sort();
+    }
+
+    // find the lane whose centre is closest to an X position
+    private int laneOf(double x) {
+        int closest = 0;
+        for (int i = 1; i < LANE_CENTERS.length; i++) {
+            if (Math.abs(LANE_CENTERS[i] - x) < Math.abs(LANE_CENTERS[closest] - x)) {
+                closest = i;
+            }
+        }
+        return closest;
+    }
+
+    // find the first position in a lane whose car is not above the given Y position
+    private int lowerBound(ArrayList<T> lane, double y) {
+        int low = 0;
+        int high = lane.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lane.get(mid).getYPos() < y) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // insertion sort, close to linear as cars rarely overtake each other between frames
+    private void sortByY(ArrayList<T> lane) {
+        for (int i = 1; i < lane.size(); i++) {
+            T car = lane.get(i);
+            int j = i - 1;
+            while (j >= 0 && lane.get(j).getYPos() > car.getYPos()) {
+                lane.set(j + 1, lane.get(j));
+                j--;
+            }
+            lane.set(j + 1, car);
+        }
+    }
+}
@@ -3,7 +3,9 @@ import java.util.Properties;
 
 /**
  * Represents the details of a taxi trip, including statistics for both ongoing
- * and completed trips.
+ * and completed trips. A TripDetails object is created when a passenger is picked up
+ * and updated in place every frame of the trip; the text it draws is only re-formatted
+ * when one of the values shown changes.
  */
 public class TripDetails {
     private final Properties GAME_PROPS;
@@ -13,80 +15,140 @@ public class TripDetails {
     private final String EXP_TEXT;
     private double exp;
     private final String PRIORITY_TEXT;
-    private Passenger passenger;
+    private final Passenger passenger;
     private int priority;
     private int distanceTravelled;
-    private final Font font;
+    private Font font;
 
     private final String LAST_TITLE;
     private final String PENALTY_TEXT;
     private final int FONT_SIZE;
-    private final double PENALTY;
+    private double penalty;
     private final double PENALTY_RATE;
     private double finalExp;
 
+    // text drawn for the trip, set to null when a value changes so it is formatted again
+    private String expString;
+    private String finalExpString;
+    private String priorityString;
+    private String penaltyString;
+
     private final int TEXT_X;
     private final int TEXT_Y;
     private final int FLAG_RADIUS;
     private boolean earningsCalculated = false;
 
     /**
-     * Constructs a TripDetails object with the specified properties and trip information.
+     * Constructs a TripDetails object for a passenger who has just been picked up.
+     * The trip's statistics are set by the first call to update.
      *
      * @param messageProps properties containing text messages for the game
      * @param gameProps properties containing configuration values for the game
      * @param passenger the Passenger object associated with the trip
-     * @param taxiX the X position of the taxi
-     * @param taxiY the Y position of the taxi
-     * @param flagX the X position of the trip end flag
-     * @param flagY the Y position of the trip end flag
      */
-    public TripDetails(Properties messageProps, Properties gameProps, Passenger passenger, double taxiX,
-                       double taxiY, double flagX, double flagY) {
+    public TripDetails(Properties messageProps, Properties gameProps, Passenger passenger) {
         this.GAME_PROPS = gameProps;
         this.MESSAGE_PROPS = messageProps;
 
         // set current statistic details
         this.passenger = passenger;
-        this.priority = passenger.getPriority();
-        this.distanceTravelled = passenger.getDistanceY();
         CURRENT_TITLE = MESSAGE_PROPS.getProperty("gamePlay.onGoingTrip.title");
         EXP_TEXT = MESSAGE_PROPS.getProperty("gamePlay.trip.expectedEarning");
-        exp = passenger.calculateExpected(priority, distanceTravelled);
         PRIORITY_TEXT = MESSAGE_PROPS.getProperty("gamePlay.trip.priority");
         FONT_SIZE = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.info.fontSize"));
-        font = new Font("res/FSO8BITR.TTF", FONT_SIZE);
         FLAG_RADIUS = Integer.parseInt(GAME_PROPS.getProperty("gameObjects.tripEndFlag.radius"));
 
         // set last statistics data
         LAST_TITLE = MESSAGE_PROPS.getProperty("gamePlay.completedTrip.title");
         PENALTY_TEXT = MESSAGE_PROPS.getProperty("gamePlay.trip.penalty");
         PENALTY_RATE = Double.parseDouble(GAME_PROPS.getProperty("trip.penalty.perY"));
-        PENALTY = calculatePenalty(taxiX, taxiY, flagX, flagY);
 
         TEXT_X = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.tripInfo.x"));
         TEXT_Y = Integer.parseInt(GAME_PROPS.getProperty("gamePlay.tripInfo.y"));
     }
 
+    /**
+     * Updates the statistics of the trip while it is ongoing. The trip's earnings are
+     * not paid until the trip has ended, so they are marked as not yet calculated.
+     *
+     * @param taxiX the X position of the taxi
+     * @param taxiY the Y position of the taxi
+     * @param flagX the X position of the trip end flag
+     * @param flagY the Y position of the trip end flag
+     */
+    public void update(double taxiX, double taxiY, double flagX, double flagY) {
+        earningsCalculated = false;
+
+        int newPriority = passenger.getPriority();
+        if (newPriority != priority || priorityString == null) {
+            priority = newPriority;
+            priorityString = null;
+        }
+
+        distanceTravelled = passenger.getDistanceY();
+        double newExp = passenger.calculateExpected(priority, distanceTravelled);
+        if (newExp != exp || expString == null) {
+            exp = newExp;
+            expString = null;
+        }
+
+        double newPenalty = calculatePenalty(taxiX, taxiY, flagX, flagY);
+        if (Double.compare(newPenalty, penalty) != 0 || penaltyString == null) {
+            penalty = newPenalty;
+            penaltyString = null;
+        }
+
+        double newFinalExp = calculateFinalExp(exp, penalty);
+        if (newFinalExp != finalExp || finalExpString == null) {
+            finalExp = newFinalExp;
+            finalExpString = null;
+        }
+    }
+
     /**
      * Renders the statistics of the current trip on the screen.
      */
     public void renderCurrent() {
+        loadFont();
+        formatText();
         font.drawString(CURRENT_TITLE, TEXT_X, TEXT_Y);
-        font.drawString(EXP_TEXT + exp, TEXT_X, TEXT_Y + 30);
-        font.drawString( PRIORITY_TEXT + priority, TEXT_X, TEXT_Y + 60);
+        font.drawString(expString, TEXT_X, TEXT_Y + 30);
+        font.drawString(priorityString, TEXT_X, TEXT_Y + 60);
     }
 
     /**
      * Renders the statistics of the last completed trip on the screen.
      */
     public void renderLast() {
-        finalExp = calculateFinalExp(exp, PENALTY);
-
+        loadFont();
+        formatText();
         font.drawString(LAST_TITLE, TEXT_X, TEXT_Y);
-        font.drawString(EXP_TEXT + String.format("%.1f", finalExp), TEXT_X, TEXT_Y + 30);
-        font.drawString( PRIORITY_TEXT + priority, TEXT_X, TEXT_Y + 60);
-        font.drawString(PENALTY_TEXT + String.format("%.2f", PENALTY), TEXT_X, TEXT_Y + 90);
+        font.drawString(finalExpString, TEXT_X, TEXT_Y + 30);
+        font.drawString(priorityString, TEXT_X, TEXT_Y + 60);
+        font.drawString(penaltyString, TEXT_X, TEXT_Y + 90);
+    }
+
+    // format the text for any values that have changed since it was last drawn
+    private void formatText() {
+        if (expString == null) {
+            expString = EXP_TEXT + exp;
+        }
+        if (finalExpString == null) {
+            finalExpString = EXP_TEXT + String.format("%.1f", finalExp);
+        }
+        if (priorityString == null) {
+            priorityString = PRIORITY_TEXT + priority;
+        }
+        if (penaltyString == null) {
+            penaltyString = PENALTY_TEXT + String.format("%.2f", penalty);
+        }
+    }
+
+    // get the shared font the first time the trip details are drawn
+    private void loadFont() {
+        if (font == null) {
+            font = FontCache.getFont("res/FSO8BITR.TTF", FONT_SIZE);
+        }
     }
 
     // calculate final earnings
@@ -110,6 +172,10 @@ public class TripDetails {
     }
 
     //getters and setters
+    public Passenger getPassenger() {
+        return passenger;
+    }
+
     public double getFinalExp() {
         return finalExp;
     }
@@ -6,10 +6,11 @@ import java.util.Properties;
  * The flag is rendered on the screen and can move based on user input and driver status.
  */
 public class TripEndFlag {
-    private final Image FLAG_IMAGE;
+    private final Sprite FLAG_IMAGE;
     private final int FLAG_SPEED;
     private final int flagX;
     private double flagY;
+    private double previousFlagY;
 
     /**
      * Constructs a TripEndFlag with specified properties.
@@ -20,22 +21,27 @@ public class TripEndFlag {
      */
     public TripEndFlag(Properties gameProps, int flagX, double flagY) {
         // set end flag properties
-        FLAG_IMAGE = new Image(gameProps.getProperty("gameObjects.tripEndFlag.image"));
+        FLAG_IMAGE = new Sprite(gameProps.getProperty("gameObjects.tripEndFlag.image"));
         FLAG_SPEED = Integer.parseInt(gameProps.getProperty("gameObjects.taxi.speedY"));
         this.flagX = flagX;
         this.flagY = flagY;
+        this.previousFlagY = flagY;
+    }
+
+    /**
+     * Remembers the flag's position at the start of a tick. The flag only moves vertically.
+     */
+    public void savePosition() {
+        previousFlagY = flagY;
     }
 
     /**
-     * Renders the trip end flag on the screen.
      * Updates the flag's Y position based on user input and whether the driver is in the taxi.
      *
      * @param input the user input to determine movement direction
      * @param driverInTaxi indicates if the driver is currently in the taxi
      */
-    public void render(Input input, boolean driverInTaxi) {
-        FLAG_IMAGE.draw(flagX, flagY);
-
+    public void update(InputSource input, boolean driverInTaxi) {
         if (driverInTaxi) {
             if (input.isDown(Keys.UP)) {
                 flagY += FLAG_SPEED;
@@ -49,6 +55,22 @@ public class TripEndFlag {
         }
     }
 
+    /**
+     * Renders the trip end flag on the screen.
+     *
+     * @param alpha how far the frame is from the previous tick to the current one, from 0 to 1
+     */
+    public void draw(double alpha) {
+        FLAG_IMAGE.draw(flagX, MiscUtils.interpolate(previousFlagY, flagY, alpha));
+    }
+
+    /**
+     * Releases the flag's texture once it has been removed from the game.
+     */
+    public void release() {
+        FLAG_IMAGE.release();
+    }
+
     // getters and setters
     public double getFlagY() {
         return flagY;
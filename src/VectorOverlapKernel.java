@@ -0,0 +1,42 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Represents an OverlapKernel that tests as many circles of a batch at once as the CPU's
+ * vector registers hold, using the incubating Vector API. The JVM must be started with
+ * --add-modules jdk.incubator.vector for this class to load, so it is only ever created
+ * through OverlapKernel.create(). The arithmetic is the same as ScalarOverlapKernel's, with
+ * no fused multiply-adds, so both kernels find exactly the same overlaps.
+ */
+public class VectorOverlapKernel implements OverlapKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int findOverlaps(double x, double y, double radius, double[] xs, double[] ys, double[] radii,
+                            int count, boolean[] hits) {
+        int hitCount = 0;
+        int i = 0;
+        int vectorCount = SPECIES.loopBound(count);
+        for (; i < vectorCount; i += SPECIES.length()) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, i).sub(x);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, i).sub(y);
+            DoubleVector reach = DoubleVector.fromArray(SPECIES, radii, i).add(radius);
+            VectorMask<Double> overlaps = dx.mul(dx).add(dy.mul(dy)).lt(reach.mul(reach));
+            overlaps.intoArray(hits, i);
+            hitCount += overlaps.trueCount();
+        }
+
+        // the circles left over after the last full vector
+        for (; i < count; i++) {
+            double dx = xs[i] - x;
+            double dy = ys[i] - y;
+            double reach = radii[i] + radius;
+            hits[i] = dx * dx + dy * dy < reach * reach;
+            if (hits[i]) {
+                hitCount++;
+            }
+        }
+        return hitCount;
+    }
+}